@@ -14,6 +14,7 @@ dependencies {
   jmh(platform(project(":dependencyManagement")))
 
   jmh("io.opentelemetry:opentelemetry-api")
+  jmh("io.opentelemetry:opentelemetry-api-metrics")
   jmh("net.bytebuddy:byte-buddy-agent")
 
   jmh(project(":instrumentation-api"))
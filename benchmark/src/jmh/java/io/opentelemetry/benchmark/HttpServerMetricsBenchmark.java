@@ -0,0 +1,73 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.benchmark;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.GlobalMeterProvider;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.RequestListener;
+import io.opentelemetry.instrumentation.api.instrumenter.http.HttpServerMetrics;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class HttpServerMetricsBenchmark {
+
+  private static final RequestListener LISTENER =
+      HttpServerMetrics.get().create(GlobalMeterProvider.get().get("benchmark"));
+
+  private static final Attributes START_ATTRIBUTES =
+      Attributes.builder()
+          .put(SemanticAttributes.HTTP_METHOD, "GET")
+          .put(SemanticAttributes.HTTP_SCHEME, "https")
+          .put(SemanticAttributes.HTTP_HOST, "opentelemetry.io")
+          .put(SemanticAttributes.HTTP_TARGET, "/benchmark")
+          .put(SemanticAttributes.NET_HOST_NAME, "localhost")
+          .put(SemanticAttributes.NET_HOST_PORT, 8080L)
+          .build();
+
+  private static final Attributes END_ATTRIBUTES =
+      Attributes.builder()
+          .put(SemanticAttributes.HTTP_FLAVOR, SemanticAttributes.HttpFlavorValues.HTTP_1_1)
+          .put(SemanticAttributes.HTTP_STATUS_CODE, 200L)
+          .build();
+
+  private long peerPort = 0;
+
+  @Benchmark
+  public Context startEnd() {
+    Context context = LISTENER.start(Context.root(), START_ATTRIBUTES, 0);
+    LISTENER.end(context, END_ATTRIBUTES, 100);
+    return context;
+  }
+
+  // every request comes from a different client port, like most connections do in production
+  @Benchmark
+  public Context startEndVaryingPeerPort() {
+    Attributes startAttributes =
+        START_ATTRIBUTES.toBuilder()
+            .put(SemanticAttributes.NET_PEER_IP, "10.0.0.1")
+            .put(SemanticAttributes.NET_PEER_PORT, 1024 + (peerPort++ % 64512))
+            .build();
+    Context context = LISTENER.start(Context.root(), startAttributes, 0);
+    LISTENER.end(context, END_ATTRIBUTES, 100);
+    return context;
+  }
+}
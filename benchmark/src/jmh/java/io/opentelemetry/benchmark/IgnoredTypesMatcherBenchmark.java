@@ -6,7 +6,10 @@
 package io.opentelemetry.benchmark;
 
 import io.opentelemetry.instrumentation.api.config.Config;
+import io.opentelemetry.javaagent.instrumentation.api.util.Trie;
 import io.opentelemetry.javaagent.tooling.ignore.AdditionalLibraryIgnoredTypesConfigurer;
+import io.opentelemetry.javaagent.tooling.ignore.GlobalIgnoredTypesConfigurer;
+import io.opentelemetry.javaagent.tooling.ignore.IgnoreAllow;
 import io.opentelemetry.javaagent.tooling.ignore.IgnoredTypesBuilderImpl;
 import io.opentelemetry.javaagent.tooling.ignore.IgnoredTypesMatcher;
 import java.util.concurrent.TimeUnit;
@@ -31,13 +34,29 @@ public class IgnoredTypesMatcherBenchmark {
       new TypeDescription.Latent("org.springframework.test.SomeClass", 0, null);
   private static final TypeDescription testAppType =
       new TypeDescription.Latent("com.example.myapp.Main", 0, null);
+  private static final TypeDescription allowedSpringType =
+      new TypeDescription.Latent(
+          "org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter",
+          0,
+          null);
+  private static final TypeDescription agentType =
+      new TypeDescription.Latent("net.bytebuddy.description.type.TypeDescription", 0, null);
+
+  private static final String classLoaderName = "sun.reflect.DelegatingClassLoader";
+  private static final String taskName = "io.netty.util.concurrent.GlobalEventExecutor$TaskRunner";
 
   private static final ElementMatcher<TypeDescription> ignoredTypesMatcher;
+  private static final Trie<IgnoreAllow> ignoredClassLoadersTrie;
+  private static final Trie<Boolean> ignoredTasksTrie;
 
   static {
+    // the same global ignore list that the agent uses
     IgnoredTypesBuilderImpl builder = new IgnoredTypesBuilderImpl();
+    new GlobalIgnoredTypesConfigurer().configure(Config.get(), builder);
     new AdditionalLibraryIgnoredTypesConfigurer().configure(Config.get(), builder);
     ignoredTypesMatcher = new IgnoredTypesMatcher(builder.buildIgnoredTypesTrie());
+    ignoredClassLoadersTrie = builder.buildIgnoredClassLoadersTrie();
+    ignoredTasksTrie = builder.buildIgnoredTasksTrie();
   }
 
   @Benchmark
@@ -49,4 +68,24 @@ public class IgnoredTypesMatcherBenchmark {
   public boolean appType() {
     return ignoredTypesMatcher.matches(testAppType);
   }
+
+  @Benchmark
+  public boolean allowedSpringType() {
+    return ignoredTypesMatcher.matches(allowedSpringType);
+  }
+
+  @Benchmark
+  public boolean agentType() {
+    return ignoredTypesMatcher.matches(agentType);
+  }
+
+  @Benchmark
+  public IgnoreAllow classLoader() {
+    return ignoredClassLoadersTrie.getOrNull(classLoaderName);
+  }
+
+  @Benchmark
+  public Boolean task() {
+    return ignoredTasksTrie.getOrNull(taskName);
+  }
 }
@@ -6,14 +6,20 @@
 package io.opentelemetry.benchmark;
 
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.api.instrumenter.http.HttpClientAttributesExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.http.HttpSpanNameExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.net.InetSocketAddressNetAttributesExtractor;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
 import java.net.InetSocketAddress;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -42,6 +48,17 @@ public class InstrumenterBenchmark {
           .addAttributesExtractor(new ConstantNetAttributesExtractor())
           .newInstrumenter();
 
+  // exercises the attributes storage with more attributes than a typical instrumenter collects
+  private static final Instrumenter<Void, Void> MANY_ATTRIBUTES_INSTRUMENTER =
+      Instrumenter.<Void, Void>newBuilder(
+              OpenTelemetry.noop(),
+              "benchmark",
+              HttpSpanNameExtractor.create(ConstantHttpAttributesExtractor.INSTANCE))
+          .addAttributesExtractor(ConstantHttpAttributesExtractor.INSTANCE)
+          .addAttributesExtractor(new ConstantNetAttributesExtractor())
+          .addAttributesExtractor(new ConstantCustomAttributesExtractor())
+          .newInstrumenter();
+
   @Benchmark
   public Context start() {
     return INSTRUMENTER.start(Context.root(), null);
@@ -54,6 +71,13 @@ public class InstrumenterBenchmark {
     return context;
   }
 
+  @Benchmark
+  public Context startEndManyAttributes() {
+    Context context = MANY_ATTRIBUTES_INSTRUMENTER.start(Context.root(), null);
+    MANY_ATTRIBUTES_INSTRUMENTER.end(context, null, null, null);
+    return context;
+  }
+
   static class ConstantHttpAttributesExtractor extends HttpClientAttributesExtractor<Void, Void> {
     static final HttpClientAttributesExtractor<Void, Void> INSTANCE =
         new ConstantHttpAttributesExtractor();
@@ -120,4 +144,30 @@ public class InstrumenterBenchmark {
       return SemanticAttributes.NetTransportValues.IP_TCP;
     }
   }
+
+  static class ConstantCustomAttributesExtractor extends AttributesExtractor<Void, Void> {
+
+    private static final List<AttributeKey<String>> KEYS =
+        IntStream.range(0, 16)
+            .mapToObj(i -> AttributeKey.stringKey("custom.attribute." + i))
+            .collect(Collectors.toList());
+
+    @Override
+    protected void onStart(AttributesBuilder attributes, Void unused) {
+      for (AttributeKey<String> key : KEYS) {
+        set(attributes, key, "value");
+      }
+    }
+
+    @Override
+    protected void onEnd(
+        AttributesBuilder attributes,
+        Void unused,
+        @Nullable Void unused2,
+        @Nullable Throwable error) {
+      for (AttributeKey<String> key : KEYS) {
+        set(attributes, key, "value");
+      }
+    }
+  }
 }
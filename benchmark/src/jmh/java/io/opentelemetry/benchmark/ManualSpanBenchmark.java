@@ -0,0 +1,99 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.benchmark;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Manual spans created with the application's OpenTelemetry API. Without the agent this measures
+ * the no-op API, with the agent it measures the bridge between the application API and the agent.
+ */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+public class ManualSpanBenchmark {
+
+  private static final AttributeKey<String> STRING_KEY = AttributeKey.stringKey("benchmark.key");
+  private static final AttributeKey<Long> LONG_KEY = AttributeKey.longKey("benchmark.count");
+  private static final Attributes EVENT_ATTRIBUTES =
+      Attributes.of(STRING_KEY, "value", LONG_KEY, 42L);
+
+  private final Tracer tracer = GlobalOpenTelemetry.getTracer("benchmark");
+
+  private Span parentSpan;
+  private io.opentelemetry.context.Scope parentScope;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    parentSpan = tracer.spanBuilder("parent").startSpan();
+    parentScope = parentSpan.makeCurrent();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    parentScope.close();
+    parentSpan.end();
+  }
+
+  @Benchmark
+  public void startEndSpan() {
+    Span span =
+        tracer
+            .spanBuilder("manual")
+            .setAttribute(STRING_KEY, "value")
+            .setAttribute(LONG_KEY, 1L)
+            .startSpan();
+    span.setAttribute(STRING_KEY, "other");
+    span.addEvent("event", EVENT_ATTRIBUTES);
+    span.end();
+  }
+
+  @Benchmark
+  public void startEndSpanInScope() {
+    Span span = tracer.spanBuilder("manual").startSpan();
+    try (io.opentelemetry.context.Scope ignored = span.makeCurrent()) {
+      Span.current().setAttribute(STRING_KEY, "value");
+    } finally {
+      span.end();
+    }
+  }
+
+  @Benchmark
+  public Span currentSpan() {
+    Span span = Span.current();
+    span.setAttribute(LONG_KEY, 1L);
+    return span;
+  }
+
+  @Fork(
+      jvmArgsAppend = {
+        "-javaagent:/path/to/opentelemetry-java-instrumentation"
+            + "/javaagent/build/libs/opentelemetry-javaagent.jar",
+        "-Dotel.traces.exporter=none",
+        "-Dotel.metrics.exporter=none"
+      })
+  public static class WithAgent extends ManualSpanBenchmark {}
+}
@@ -71,4 +71,12 @@ public class TypeMatchingBenchmark {
           "-javaagent:/path/to/opentelemetry-java-instrumentation"
               + "/javaagent/build/libs/opentelemetry-javaagent.jar")
   public static class WithAgent extends TypeMatchingBenchmark {}
+
+  @Fork(
+      jvmArgsAppend = {
+        "-javaagent:/path/to/opentelemetry-java-instrumentation"
+            + "/javaagent/build/libs/opentelemetry-javaagent.jar",
+        "-Dotel.javaagent.experimental.type-name-index.enabled=false"
+      })
+  public static class WithAgentWithoutTypeNameIndex extends TypeMatchingBenchmark {}
 }
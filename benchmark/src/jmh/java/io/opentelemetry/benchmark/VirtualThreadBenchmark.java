@@ -0,0 +1,83 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.benchmark;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Scope;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.atomic.LongAdder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Starts one million short-lived virtual threads inside a span. Requires JDK 21; the virtual
+ * thread API is called through method handles because the benchmarks are compiled for Java 8.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@Fork(3)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(MILLISECONDS)
+public class VirtualThreadBenchmark {
+
+  private static final int TASKS = 1_000_000;
+
+  private static final MethodHandle ofVirtual;
+  private static final MethodHandle start;
+
+  static {
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      Class<?> ofVirtualClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+      ofVirtual =
+          lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualClass));
+      start =
+          lookup.findVirtual(
+              builderClass, "start", MethodType.methodType(Thread.class, Runnable.class));
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Virtual threads require JDK 21+", e);
+    }
+  }
+
+  @Benchmark
+  public long startVirtualThreads() throws Throwable {
+    LongAdder counter = new LongAdder();
+    Thread[] threads = new Thread[TASKS];
+    Span span = GlobalOpenTelemetry.getTracer("benchmark").spanBuilder("parent").startSpan();
+    try (Scope ignored = span.makeCurrent()) {
+      Object builder = ofVirtual.invoke();
+      Runnable task = counter::increment;
+      for (int i = 0; i < TASKS; i++) {
+        threads[i] = (Thread) start.invoke(builder, task);
+      }
+    } finally {
+      span.end();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    return counter.sum();
+  }
+
+  @Fork(
+      jvmArgsAppend = {
+        "-javaagent:/path/to/opentelemetry-java-instrumentation"
+            + "/javaagent/build/libs/opentelemetry-javaagent.jar",
+        "-Dotel.traces.exporter=none"
+      })
+  public static class WithAgent extends VirtualThreadBenchmark {}
+}
@@ -5,9 +5,9 @@
 
 package io.opentelemetry.benchmark;
 
-import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import io.opentelemetry.context.internal.shaded.WeakConcurrentMap;
+import io.opentelemetry.instrumentation.api.caching.Cache;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -34,10 +34,15 @@ public class WeakMapBenchmark {
   private static final WeakConcurrentMap<String, String> weakConcurrentMapInline =
       new WeakConcurrentMap.WithInlinedExpunction<>();
 
-  private static final Cache<String, String> caffeineCache =
+  private static final com.github.benmanes.caffeine.cache.Cache<String, String> caffeineCache =
       Caffeine.newBuilder().weakKeys().build();
   private static final Map<String, String> caffeineMap = caffeineCache.asMap();
 
+  // every invocation of the computeIfAbsent benchmarks is a miss on a new key
+  private static final Cache<Object, Object> weakCache = Cache.newBuilder().setWeakKeys().build();
+  private static final Map<Object, Object> caffeineWeakMap =
+      Caffeine.newBuilder().weakKeys().build().asMap();
+
   private String key;
 
   @Setup
@@ -116,4 +121,44 @@ public class WeakMapBenchmark {
     blackhole.consume(caffeineMap.get(key));
     blackhole.consume(caffeineMap.remove(key));
   }
+
+  @Benchmark
+  @Threads(1)
+  public void threads01_computeIfAbsent_weakCache(Blackhole blackhole) {
+    blackhole.consume(weakCache.computeIfAbsent(new Object(), WeakMapBenchmark::newValue));
+  }
+
+  @Benchmark
+  @Threads(32)
+  public void threads32_computeIfAbsent_weakCache(Blackhole blackhole) {
+    blackhole.consume(weakCache.computeIfAbsent(new Object(), WeakMapBenchmark::newValue));
+  }
+
+  @Benchmark
+  @Threads(64)
+  public void threads64_computeIfAbsent_weakCache(Blackhole blackhole) {
+    blackhole.consume(weakCache.computeIfAbsent(new Object(), WeakMapBenchmark::newValue));
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void threads01_computeIfAbsent_caffeine(Blackhole blackhole) {
+    blackhole.consume(caffeineWeakMap.computeIfAbsent(new Object(), WeakMapBenchmark::newValue));
+  }
+
+  @Benchmark
+  @Threads(32)
+  public void threads32_computeIfAbsent_caffeine(Blackhole blackhole) {
+    blackhole.consume(caffeineWeakMap.computeIfAbsent(new Object(), WeakMapBenchmark::newValue));
+  }
+
+  @Benchmark
+  @Threads(64)
+  public void threads64_computeIfAbsent_caffeine(Blackhole blackhole) {
+    blackhole.consume(caffeineWeakMap.computeIfAbsent(new Object(), WeakMapBenchmark::newValue));
+  }
+
+  private static Object newValue(Object key) {
+    return "foo";
+  }
 }
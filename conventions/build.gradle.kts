@@ -45,7 +45,7 @@ dependencies {
   implementation("org.apache.httpcomponents:httpclient:4.5.13")
   implementation("org.gradle:test-retry-gradle-plugin:1.2.1")
   // When updating, also update dependencyManagement/dependencyManagement.gradle.kts
-  implementation("net.bytebuddy:byte-buddy-gradle-plugin:1.11.18")
+  implementation("net.bytebuddy:byte-buddy-gradle-plugin:1.14.9")
   implementation("gradle.plugin.io.morethan.jmhreport:gradle-jmh-report:0.9.0")
   implementation("me.champeau.jmh:jmh-gradle-plugin:0.6.5")
   implementation("net.ltgt.gradle:gradle-errorprone-plugin:2.0.1")
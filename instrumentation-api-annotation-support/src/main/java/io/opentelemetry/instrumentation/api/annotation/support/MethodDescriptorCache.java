@@ -0,0 +1,128 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.annotation.support;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Resolves a value for an instrumented method from constants that are available in advice code: the
+ * declaring class ({@code @Advice.Origin Class}), the method name ({@code @Advice.Origin("#m")})
+ * and the method descriptor ({@code @Advice.Origin("#d")}). The {@link Method} is looked up and the
+ * value is computed only once per method, all subsequent calls are two map lookups. In contrast,
+ * an {@code @Advice.Origin Method} parameter looks the method up reflectively on every invocation.
+ */
+public final class MethodDescriptorCache<V> {
+
+  /**
+   * Returns a new {@link MethodDescriptorCache} that computes values using the passed {@code
+   * valueFactory}.
+   */
+  public static <V> MethodDescriptorCache<V> create(Function<Method, V> valueFactory) {
+    return new MethodDescriptorCache<>(valueFactory);
+  }
+
+  private final Function<Method, V> valueFactory;
+  // method name -> method descriptor -> value
+  private final ClassValue<Map<String, Map<String, V>>> values =
+      new ClassValue<Map<String, Map<String, V>>>() {
+        @Override
+        protected Map<String, Map<String, V>> computeValue(Class<?> type) {
+          // the cache is naturally bounded by the number of methods in a class
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  private MethodDescriptorCache(Function<Method, V> valueFactory) {
+    this.valueFactory = valueFactory;
+  }
+
+  /**
+   * Returns the value for the method with the passed name and descriptor declared by {@code
+   * declaringClass}, computing it if necessary.
+   *
+   * @throws IllegalArgumentException if there is no such method
+   */
+  public V get(Class<?> declaringClass, String methodName, String methodDescriptor) {
+    Map<String, Map<String, V>> valuesByName = values.get(declaringClass);
+    // not using computeIfAbsent, because it would require a capturing (allocating) lambda
+    Map<String, V> valuesByDescriptor = valuesByName.get(methodName);
+    if (valuesByDescriptor != null) {
+      V value = valuesByDescriptor.get(methodDescriptor);
+      if (value != null) {
+        return value;
+      }
+    } else {
+      valuesByDescriptor = new ConcurrentHashMap<>();
+      Map<String, V> existing = valuesByName.putIfAbsent(methodName, valuesByDescriptor);
+      if (existing != null) {
+        valuesByDescriptor = existing;
+      }
+    }
+
+    Method method = findMethod(declaringClass, methodName, methodDescriptor);
+    if (method == null) {
+      throw new IllegalArgumentException(
+          "No method " + methodName + methodDescriptor + " in " + declaringClass.getName());
+    }
+    V value = valueFactory.apply(method);
+    V existing = valuesByDescriptor.putIfAbsent(methodDescriptor, value);
+    return existing != null ? existing : value;
+  }
+
+  @Nullable
+  private static Method findMethod(
+      Class<?> declaringClass, String methodName, String methodDescriptor) {
+    for (Method method : declaringClass.getDeclaredMethods()) {
+      if (method.getName().equals(methodName) && methodDescriptor.equals(descriptor(method))) {
+        return method;
+      }
+    }
+    return null;
+  }
+
+  // visible for testing
+  static String descriptor(Method method) {
+    StringBuilder descriptor = new StringBuilder().append('(');
+    for (Class<?> parameterType : method.getParameterTypes()) {
+      appendDescriptor(descriptor, parameterType);
+    }
+    descriptor.append(')');
+    appendDescriptor(descriptor, method.getReturnType());
+    return descriptor.toString();
+  }
+
+  private static void appendDescriptor(StringBuilder descriptor, Class<?> type) {
+    while (type.isArray()) {
+      descriptor.append('[');
+      type = type.getComponentType();
+    }
+    if (!type.isPrimitive()) {
+      descriptor.append('L').append(type.getName().replace('.', '/')).append(';');
+    } else if (type == boolean.class) {
+      descriptor.append('Z');
+    } else if (type == byte.class) {
+      descriptor.append('B');
+    } else if (type == char.class) {
+      descriptor.append('C');
+    } else if (type == short.class) {
+      descriptor.append('S');
+    } else if (type == int.class) {
+      descriptor.append('I');
+    } else if (type == long.class) {
+      descriptor.append('J');
+    } else if (type == float.class) {
+      descriptor.append('F');
+    } else if (type == double.class) {
+      descriptor.append('D');
+    } else {
+      descriptor.append('V');
+    }
+  }
+}
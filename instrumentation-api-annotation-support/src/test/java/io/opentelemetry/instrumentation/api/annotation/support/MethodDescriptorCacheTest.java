@@ -0,0 +1,68 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.annotation.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class MethodDescriptorCacheTest {
+
+  @Test
+  void computesDescriptors() throws Exception {
+    assertThat(MethodDescriptorCache.descriptor(TestClass.class.getDeclaredMethod("method")))
+        .isEqualTo("()V");
+    assertThat(
+            MethodDescriptorCache.descriptor(
+                TestClass.class.getDeclaredMethod(
+                    "method", int.class, String.class, long[][].class, List.class)))
+        .isEqualTo("(ILjava/lang/String;[[JLjava/util/List;)Ljava/lang/Object;");
+  }
+
+  @Test
+  void resolvesOverloadedMethodsOnce() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    MethodDescriptorCache<Method> cache =
+        MethodDescriptorCache.create(
+            method -> {
+              calls.incrementAndGet();
+              return method;
+            });
+
+    Method noArgs = cache.get(TestClass.class, "method", "()V");
+    Method withArgs =
+        cache.get(
+            TestClass.class,
+            "method",
+            "(ILjava/lang/String;[[JLjava/util/List;)Ljava/lang/Object;");
+
+    assertThat(noArgs).isEqualTo(TestClass.class.getDeclaredMethod("method"));
+    assertThat(withArgs.getParameterCount()).isEqualTo(4);
+    assertThat(cache.get(TestClass.class, "method", "()V")).isSameAs(noArgs);
+    assertThat(calls.get()).isEqualTo(2);
+  }
+
+  @Test
+  void failsForUnknownMethod() {
+    MethodDescriptorCache<Method> cache = MethodDescriptorCache.create(method -> method);
+
+    assertThatThrownBy(() -> cache.get(TestClass.class, "method", "(I)V"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @SuppressWarnings("unused")
+  static class TestClass {
+    void method() {}
+
+    Object method(int i, String s, long[][] array, List<?> list) {
+      return null;
+    }
+  }
+}
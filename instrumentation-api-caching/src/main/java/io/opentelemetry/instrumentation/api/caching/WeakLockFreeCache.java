@@ -10,10 +10,21 @@ import java.util.function.Function;
 
 final class WeakLockFreeCache<K, V> implements Cache<K, V> {
 
+  // Misses are serialized per stripe, not per cache, so that concurrent misses on different keys
+  // (e.g. when many class loaders are being instrumented at once) don't contend on a single
+  // monitor. Stripes are per cache instance: a mapping function may still use another cache.
+  private static final int STRIPES =
+      Math.min(64, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1) << 1);
+
   private final WeakConcurrentMap<K, V> delegate;
+  private final Object[] locks;
 
   WeakLockFreeCache() {
     this.delegate = new WeakConcurrentMap.WithInlinedExpunction<>();
+    this.locks = new Object[STRIPES];
+    for (int i = 0; i < locks.length; i++) {
+      locks[i] = new Object();
+    }
   }
 
   @Override
@@ -22,12 +33,12 @@ final class WeakLockFreeCache<K, V> implements Cache<K, V> {
     if (value != null) {
       return value;
     }
-    // Best we can do, we don't expect high contention with this implementation. Note, this
-    // prevents executing mappingFunction twice but it does not prevent executing mappingFunction
-    // if there is a concurrent put operation as would be the case for ConcurrentHashMap. However,
-    // we would never expect an order guarantee in this case anyways so it still has the same
-    // safety.
-    synchronized (delegate) {
+    // Note, this prevents executing mappingFunction twice for the same key but it does not prevent
+    // executing mappingFunction if there is a concurrent put operation as would be the case for
+    // ConcurrentHashMap. However, we would never expect an order guarantee in this case anyways so
+    // it still has the same safety. As with ConcurrentHashMap, mappingFunction must not update
+    // this cache.
+    synchronized (lockFor(key)) {
       value = get(key);
       if (value != null) {
         return value;
@@ -41,6 +52,12 @@ final class WeakLockFreeCache<K, V> implements Cache<K, V> {
     }
   }
 
+  private Object lockFor(K key) {
+    // keys are compared by identity
+    int hash = System.identityHashCode(key);
+    return locks[(hash ^ (hash >>> 16)) & (locks.length - 1)];
+  }
+
   @Override
   public V get(K key) {
     return delegate.getIfPresent(key);
@@ -12,6 +12,7 @@ import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer.CommandSani
 import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer.CommandSanitizer.Eval;
 import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer.CommandSanitizer.KeepAllArgs;
 import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer.CommandSanitizer.MultiKeyValue;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
@@ -37,6 +38,9 @@ import java.util.Map;
  *     <td>{@code HMSET hash creditcard ? address ?}</td>
  *   </tr>
  * </table>
+ *
+ * <p>The rendered statement is bounded: long arguments and statements are truncated, and binary
+ * arguments that are not printable text are replaced with their length, e.g. {@code (1024 bytes)}.
  */
 public final class RedisCommandSanitizer {
 
@@ -313,6 +317,23 @@ public final class RedisCommandSanitizer {
     SANITIZERS = unmodifiableMap(sanitizers);
   }
 
+  /**
+   * Returns the maximum length of a statement returned by {@link #sanitize(String, List)}.
+   * Instrumentations can use it to avoid rendering arguments that would be cut off anyway.
+   */
+  public static int maxStatementLength() {
+    return RedisStatementBuilder.maxLength();
+  }
+
+  /**
+   * Returns the number of characters of a single argument that are kept in a statement returned by
+   * {@link #sanitize(String, List)}. Longer arguments are truncated, so instrumentations can pass
+   * them as {@code byte[]} or {@link ByteBuffer} instead of decoding them as a whole.
+   */
+  public static int maxArgumentLength() {
+    return RedisStatementBuilder.maxArgumentLength();
+  }
+
   public static String sanitize(String command, List<?> args) {
     if (!StatementSanitizationConfig.isStatementSanitizationEnabled()) {
       return KeepAllArgs.INSTANCE.sanitize(command, args);
@@ -328,6 +349,8 @@ public final class RedisCommandSanitizer {
     static String argToString(Object arg) {
       if (arg instanceof byte[]) {
         return new String((byte[]) arg, StandardCharsets.UTF_8);
+      } else if (arg instanceof ByteBuffer) {
+        return StandardCharsets.UTF_8.decode(((ByteBuffer) arg).duplicate()).toString();
       } else {
         return arg.toString();
       }
@@ -338,9 +361,9 @@ public final class RedisCommandSanitizer {
 
       @Override
       public String sanitize(String command, List<?> args) {
-        StringBuilder sanitized = new StringBuilder(command);
-        for (Object arg : args) {
-          sanitized.append(" ").append(argToString(arg));
+        RedisStatementBuilder sanitized = RedisStatementBuilder.create(command);
+        for (int i = 0; i < args.size() && !sanitized.isFull(); ++i) {
+          sanitized.appendArgument(args.get(i));
         }
         return sanitized.toString();
       }
@@ -357,12 +380,12 @@ public final class RedisCommandSanitizer {
 
       @Override
       public String sanitize(String command, List<?> args) {
-        StringBuilder sanitized = new StringBuilder(command);
-        for (int i = 0; i < numOfArgsToKeep && i < args.size(); ++i) {
-          sanitized.append(" ").append(argToString(args.get(i)));
+        RedisStatementBuilder sanitized = RedisStatementBuilder.create(command);
+        for (int i = 0; i < numOfArgsToKeep && i < args.size() && !sanitized.isFull(); ++i) {
+          sanitized.appendArgument(args.get(i));
         }
-        for (int i = numOfArgsToKeep; i < args.size(); ++i) {
-          sanitized.append(" ?");
+        for (int i = numOfArgsToKeep; i < args.size() && !sanitized.isFull(); ++i) {
+          sanitized.appendMask();
         }
         return sanitized.toString();
       }
@@ -379,15 +402,17 @@ public final class RedisCommandSanitizer {
 
       @Override
       public String sanitize(String command, List<?> args) {
-        StringBuilder sanitized = new StringBuilder(command);
+        RedisStatementBuilder sanitized = RedisStatementBuilder.create(command);
         // append all "initial" arguments before key-value pairs start
-        for (int i = 0; i < numOfArgsBeforeKeyValue && i < args.size(); ++i) {
-          sanitized.append(" ").append(argToString(args.get(i)));
+        for (int i = 0;
+            i < numOfArgsBeforeKeyValue && i < args.size() && !sanitized.isFull();
+            ++i) {
+          sanitized.appendArgument(args.get(i));
         }
 
         // loop over keys only
-        for (int i = numOfArgsBeforeKeyValue; i < args.size(); i += 2) {
-          sanitized.append(" ").append(argToString(args.get(i))).append(" ?");
+        for (int i = numOfArgsBeforeKeyValue; i < args.size() && !sanitized.isFull(); i += 2) {
+          sanitized.appendArgument(args.get(i)).appendMask();
         }
         return sanitized.toString();
       }
@@ -398,7 +423,7 @@ public final class RedisCommandSanitizer {
 
       @Override
       public String sanitize(String command, List<?> args) {
-        StringBuilder sanitized = new StringBuilder(command);
+        RedisStatementBuilder sanitized = RedisStatementBuilder.create(command);
 
         // get the number of keys passed from the command itself (second arg)
         int numberOfKeys = 0;
@@ -412,12 +437,12 @@ public final class RedisCommandSanitizer {
 
         int i = 0;
         // log the script, number of keys and all keys
-        for (; i < (numberOfKeys + 2) && i < args.size(); ++i) {
-          sanitized.append(" ").append(argToString(args.get(i)));
+        for (; i < (numberOfKeys + 2) && i < args.size() && !sanitized.isFull(); ++i) {
+          sanitized.appendArgument(args.get(i));
         }
         // mask the rest
-        for (; i < args.size(); ++i) {
-          sanitized.append(" ?");
+        for (; i < args.size() && !sanitized.isFull(); ++i) {
+          sanitized.appendMask();
         }
         return sanitized.toString();
       }
@@ -0,0 +1,159 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.db;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.opentelemetry.instrumentation.api.config.Config;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CoderResult;
+
+/**
+ * Renders a Redis command with a bounded length. Every argument is cut after {@code
+ * maxArgumentLength} characters and the whole statement after {@code maxLength} characters; once
+ * the statement is full all further arguments are ignored, so that huge values (e.g. scripts or
+ * serialized objects) are never copied or decoded as a whole. Binary arguments ({@code byte[]} or
+ * {@link ByteBuffer}) that are not printable UTF-8 text are rendered as {@code (<n> bytes)}.
+ */
+final class RedisStatementBuilder {
+
+  private static final String TRUNCATED = "...";
+
+  private static final int MAX_LENGTH =
+      Config.get().getInt("otel.instrumentation.redis.experimental.statement.max-length", 4096);
+  private static final int MAX_ARGUMENT_LENGTH =
+      Config.get()
+          .getInt("otel.instrumentation.redis.experimental.statement.max-argument-length", 1024);
+  private static final boolean RENDER_BINARY_ARGUMENTS =
+      Config.get()
+          .getBoolean(
+              "otel.instrumentation.redis.experimental.statement.render-binary-arguments", false);
+
+  static int maxLength() {
+    return MAX_LENGTH;
+  }
+
+  static int maxArgumentLength() {
+    return MAX_ARGUMENT_LENGTH;
+  }
+
+  static RedisStatementBuilder create(String command) {
+    return new RedisStatementBuilder(
+        command, MAX_LENGTH, MAX_ARGUMENT_LENGTH, RENDER_BINARY_ARGUMENTS);
+  }
+
+  private final StringBuilder statement;
+  private final int maxLength;
+  private final int maxArgumentLength;
+  private final boolean renderBinaryArguments;
+  private boolean full = false;
+
+  RedisStatementBuilder(
+      String command, int maxLength, int maxArgumentLength, boolean renderBinaryArguments) {
+    this.statement = new StringBuilder(Math.min(maxLength, 64));
+    this.maxLength = maxLength;
+    this.maxArgumentLength = maxArgumentLength;
+    this.renderBinaryArguments = renderBinaryArguments;
+    append(command, 0, command.length());
+  }
+
+  /** Returns {@code true} if the statement has reached its maximum length. */
+  boolean isFull() {
+    return full;
+  }
+
+  RedisStatementBuilder appendArgument(Object arg) {
+    if (!append(" ", 0, 1)) {
+      return this;
+    }
+    if (arg instanceof byte[]) {
+      appendBytes(ByteBuffer.wrap((byte[]) arg));
+    } else if (arg instanceof ByteBuffer) {
+      appendBytes(((ByteBuffer) arg).duplicate());
+    } else {
+      appendText(arg instanceof CharSequence ? (CharSequence) arg : String.valueOf(arg));
+    }
+    return this;
+  }
+
+  RedisStatementBuilder appendMask() {
+    append(" ?", 0, 2);
+    return this;
+  }
+
+  private void appendText(CharSequence text) {
+    if (text.length() <= maxArgumentLength) {
+      append(text, 0, text.length());
+    } else if (append(text, 0, cutPoint(text, 0, maxArgumentLength))) {
+      append(TRUNCATED, 0, TRUNCATED.length());
+    }
+  }
+
+  // the passed buffer is owned by this method, its position and limit are changed
+  private void appendBytes(ByteBuffer bytes) {
+    int totalLength = bytes.remaining();
+    // a UTF-8 encoded char takes at least one byte, decoding only the first maxArgumentLength
+    // bytes is enough to fill the argument
+    int length = Math.min(totalLength, maxArgumentLength);
+    boolean truncated = length < totalLength;
+    bytes.limit(bytes.position() + length);
+
+    CharBuffer chars = CharBuffer.allocate(length);
+    // an incomplete char at the end of a truncated argument is not an error, it's just dropped
+    CoderResult result = UTF_8.newDecoder().decode(bytes.duplicate(), chars, !truncated);
+    chars.flip();
+    if (!renderBinaryArguments && (result.isError() || !isPrintable(chars))) {
+      String placeholder = "(" + totalLength + " bytes)";
+      append(placeholder, 0, placeholder.length());
+      return;
+    }
+    if (result.isError()) {
+      chars = UTF_8.decode(bytes);
+    }
+    if (append(chars, 0, chars.length()) && truncated) {
+      append(TRUNCATED, 0, TRUNCATED.length());
+    }
+  }
+
+  // appends the passed chars, or as many of them as fit; returns false if the statement is full
+  private boolean append(CharSequence chars, int start, int end) {
+    if (full) {
+      return false;
+    }
+    int available = maxLength - statement.length();
+    if (end - start <= available) {
+      statement.append(chars, start, end);
+      return true;
+    }
+    statement.append(chars, start, cutPoint(chars, start, start + available)).append(TRUNCATED);
+    full = true;
+    return false;
+  }
+
+  // never split a surrogate pair
+  private static int cutPoint(CharSequence chars, int start, int index) {
+    if (index > start && Character.isHighSurrogate(chars.charAt(index - 1))) {
+      return index - 1;
+    }
+    return index;
+  }
+
+  private static boolean isPrintable(CharSequence chars) {
+    for (int i = 0; i < chars.length(); ++i) {
+      char c = chars.charAt(i);
+      if ((c < 0x20 && c != '\t' && c != '\n' && c != '\r') || c == 0x7f) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public String toString() {
+    return statement.toString();
+  }
+}
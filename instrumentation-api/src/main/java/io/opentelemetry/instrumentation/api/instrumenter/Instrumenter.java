@@ -63,6 +63,10 @@ public class Instrumenter<REQUEST, RESPONSE> {
 
   private static final SupportabilityMetrics supportability = SupportabilityMetrics.instance();
 
+  // most attributes extractors set a handful of attributes in each phase, use that to size the
+  // attributes storage up front so that it usually does not need to grow
+  private static final int EXPECTED_ATTRIBUTES_PER_EXTRACTOR = 4;
+
   private final String instrumentationName;
   private final Tracer tracer;
   private final SpanNameExtractor<? super REQUEST> spanNameExtractor;
@@ -78,6 +82,11 @@ public class Instrumenter<REQUEST, RESPONSE> {
   @Nullable private final EndTimeExtractor<REQUEST, RESPONSE> endTimeExtractor;
   private final boolean disabled;
   private final SpanSuppressionStrategy spanSuppressionStrategy;
+  private final boolean metricsOnly;
+  private final boolean earlySamplingDecision;
+  // whether the attributes are used by anything other than the span
+  private final boolean attributesNeededWithoutSpan;
+  private final int attributesCapacity;
 
   Instrumenter(InstrumenterBuilder<REQUEST, RESPONSE> builder) {
     this.instrumentationName = builder.instrumentationName;
@@ -95,6 +104,11 @@ public class Instrumenter<REQUEST, RESPONSE> {
     this.endTimeExtractor = builder.endTimeExtractor;
     this.disabled = builder.disabled;
     this.spanSuppressionStrategy = builder.getSpanSuppressionStrategy();
+    this.metricsOnly = builder.metricsOnly;
+    this.earlySamplingDecision = builder.earlySamplingDecision;
+    this.attributesNeededWithoutSpan =
+        !contextCustomizers.isEmpty() || !requestListeners.isEmpty();
+    this.attributesCapacity = attributesExtractors.size() * EXPECTED_ATTRIBUTES_PER_EXTRACTOR;
   }
 
   /**
@@ -125,28 +139,47 @@ public class Instrumenter<REQUEST, RESPONSE> {
    */
   public Context start(Context parentContext, REQUEST request) {
     SpanKind spanKind = spanKindExtractor.extract(request);
-    SpanBuilder spanBuilder =
-        tracer
-            .spanBuilder(spanNameExtractor.extract(request))
-            .setSpanKind(spanKind)
-            .setParent(parentContext);
+    SpanBuilder spanBuilder = null;
+    if (!metricsOnly) {
+      spanBuilder =
+          tracer
+              .spanBuilder(spanNameExtractor.extract(request))
+              .setSpanKind(spanKind)
+              .setParent(parentContext);
+    }
 
     Instant startTime = null;
     if (startTimeExtractor != null) {
       startTime = startTimeExtractor.extract(request);
-      spanBuilder.setStartTimestamp(startTime);
+      if (spanBuilder != null) {
+        spanBuilder.setStartTimestamp(startTime);
+      }
+    }
+
+    if (spanBuilder != null) {
+      SpanLinksBuilder spanLinksBuilder = new SpanLinksBuilderImpl(spanBuilder);
+      for (SpanLinksExtractor<? super REQUEST> spanLinksExtractor : spanLinksExtractors) {
+        spanLinksExtractor.extract(spanLinksBuilder, parentContext, request);
+      }
     }
 
-    SpanLinksBuilder spanLinksBuilder = new SpanLinksBuilderImpl(spanBuilder);
-    for (SpanLinksExtractor<? super REQUEST> spanLinksExtractor : spanLinksExtractors) {
-      spanLinksExtractor.extract(spanLinksBuilder, parentContext, request);
+    Span span = null;
+    if (spanBuilder != null && earlySamplingDecision) {
+      // the sampler only sees the span name, kind, parent and links
+      span = spanBuilder.startSpan();
     }
 
-    UnsafeAttributes attributesBuilder = new UnsafeAttributes();
-    for (AttributesExtractor<? super REQUEST, ? super RESPONSE> extractor : attributesExtractors) {
-      extractor.onStart(attributesBuilder, request);
+    Attributes attributes;
+    if (span == null || span.isRecording() || attributesNeededWithoutSpan) {
+      UnsafeAttributes attributesBuilder = new UnsafeAttributes(attributesCapacity);
+      for (AttributesExtractor<? super REQUEST, ? super RESPONSE> extractor :
+          attributesExtractors) {
+        extractor.onStart(attributesBuilder, request);
+      }
+      attributes = attributesBuilder;
+    } else {
+      attributes = Attributes.empty();
     }
-    Attributes attributes = attributesBuilder;
 
     Context context = parentContext;
 
@@ -161,8 +194,18 @@ public class Instrumenter<REQUEST, RESPONSE> {
       }
     }
 
-    spanBuilder.setAllAttributes(attributes);
-    Span span = spanBuilder.startSpan();
+    if (spanBuilder == null) {
+      // there is no span, but the context still has to be marked so that nested operations of the
+      // same kind are suppressed
+      return spanSuppressionStrategy.storeInContext(context, spanKind, Span.getInvalid());
+    }
+
+    if (span == null) {
+      spanBuilder.setAllAttributes(attributes);
+      span = spanBuilder.startSpan();
+    } else if (span.isRecording()) {
+      span.setAllAttributes(attributes);
+    }
     context = context.with(span);
 
     return spanSuppressionStrategy.storeInContext(context, spanKind, span);
@@ -176,19 +219,27 @@ public class Instrumenter<REQUEST, RESPONSE> {
    */
   public void end(
       Context context, REQUEST request, @Nullable RESPONSE response, @Nullable Throwable error) {
-    Span span = Span.fromContext(context);
+    // in metrics-only mode the span in the context belongs to the parent operation
+    Span span = metricsOnly ? Span.getInvalid() : Span.fromContext(context);
 
     if (error != null) {
       error = errorCauseExtractor.extractCause(error);
       span.recordException(error);
     }
 
-    UnsafeAttributes attributesBuilder = new UnsafeAttributes();
-    for (AttributesExtractor<? super REQUEST, ? super RESPONSE> extractor : attributesExtractors) {
-      extractor.onEnd(attributesBuilder, request, response, error);
+    Attributes attributes;
+    // the end attributes of a span that is not recording would be thrown away
+    if (span.isRecording() || !requestListeners.isEmpty()) {
+      UnsafeAttributes attributesBuilder = new UnsafeAttributes(attributesCapacity);
+      for (AttributesExtractor<? super REQUEST, ? super RESPONSE> extractor :
+          attributesExtractors) {
+        extractor.onEnd(attributesBuilder, request, response, error);
+      }
+      attributes = attributesBuilder;
+      span.setAllAttributes(attributes);
+    } else {
+      attributes = Attributes.empty();
     }
-    Attributes attributes = attributesBuilder;
-    span.setAllAttributes(attributes);
 
     Instant endTime = null;
     if (endTimeExtractor != null) {
@@ -202,6 +253,10 @@ public class Instrumenter<REQUEST, RESPONSE> {
       }
     }
 
+    if (metricsOnly) {
+      return;
+    }
+
     StatusCode statusCode = spanStatusExtractor.extract(request, response, error);
     if (statusCode != StatusCode.UNSET) {
       span.setStatus(statusCode);
@@ -39,6 +39,13 @@ public final class InstrumenterBuilder<REQUEST, RESPONSE> {
       Config.get()
           .getBoolean("otel.instrumentation.experimental.outgoing-span-suppression-by-type", false);
 
+  private static final boolean METRICS_ONLY =
+      Config.get().getBoolean("otel.instrumentation.experimental.metrics-only", false);
+
+  private static final boolean EARLY_SAMPLING_DECISION =
+      Config.get()
+          .getBoolean("otel.instrumentation.experimental.early-sampling-decision", false);
+
   final OpenTelemetry openTelemetry;
   final Meter meter;
   final String instrumentationName;
@@ -57,6 +64,8 @@ public final class InstrumenterBuilder<REQUEST, RESPONSE> {
   @Nullable StartTimeExtractor<REQUEST> startTimeExtractor = null;
   @Nullable EndTimeExtractor<REQUEST, RESPONSE> endTimeExtractor = null;
   boolean disabled = false;
+  boolean metricsOnly = METRICS_ONLY;
+  boolean earlySamplingDecision = EARLY_SAMPLING_DECISION;
 
   private boolean enableSpanSuppressionByType = ENABLE_SPAN_SUPPRESSION_BY_TYPE;
 
@@ -153,6 +162,41 @@ public final class InstrumenterBuilder<REQUEST, RESPONSE> {
     return this;
   }
 
+  /**
+   * Sets whether the constructed {@link Instrumenter} should only record metrics. If {@code true},
+   * no span is created: {@link SpanLinksExtractor}s are not called and the span name, status and
+   * links are not computed, but {@link AttributesExtractor}s, {@link ContextCustomizer}s and {@link
+   * RequestListener}s still run, so that e.g. {@link RequestMetrics} are recorded for every
+   * request. Nested operations of the same kind are still suppressed.
+   *
+   * <p>Defaults to the value of the {@code otel.instrumentation.experimental.metrics-only}
+   * configuration property, or {@code false} if it is not set.
+   */
+  @UnstableApi
+  public InstrumenterBuilder<REQUEST, RESPONSE> setMetricsOnly(boolean metricsOnly) {
+    this.metricsOnly = metricsOnly;
+    return this;
+  }
+
+  /**
+   * Sets whether the constructed {@link Instrumenter} should start the span before extracting its
+   * attributes. If {@code true}, the sampler decides based on the span name, kind, parent and links
+   * only; {@link AttributesExtractor}s are not called at all when the span is not recording, unless
+   * there are {@link ContextCustomizer}s or {@link RequestListener}s that need the attributes. This
+   * saves the attribute extraction of every request that is sampled out, but samplers will not see
+   * any of the extracted attributes.
+   *
+   * <p>Defaults to the value of the {@code
+   * otel.instrumentation.experimental.early-sampling-decision} configuration property, or {@code
+   * false} if it is not set.
+   */
+  @UnstableApi
+  public InstrumenterBuilder<REQUEST, RESPONSE> setEarlySamplingDecision(
+      boolean earlySamplingDecision) {
+    this.earlySamplingDecision = earlySamplingDecision;
+    return this;
+  }
+
   // visible for tests
   /**
    * Enables CLIENT nested span suppression based on the instrumentation type.
@@ -8,8 +8,11 @@ package io.opentelemetry.instrumentation.api.instrumenter;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.common.AttributesBuilder;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * The {@link AttributesBuilder} and {@link Attributes} used by the instrumentation API. We are able
@@ -17,21 +20,63 @@ import java.util.Map;
  * multiple Attributes instances. So we use just one storage for both the builder and attributes. A
  * couple of methods still require copying to satisfy the interface contracts, but in practice
  * should never be called by user code even though they can.
+ *
+ * <p>Attributes are stored in two parallel arrays instead of a hash map: an instrumenter only ever
+ * collects a couple dozen attributes per request, so a linear scan over the keys is cheaper than
+ * hashing and avoids allocating an entry object for every attribute.
  */
-final class UnsafeAttributes extends HashMap<AttributeKey<?>, Object>
-    implements Attributes, AttributesBuilder {
+final class UnsafeAttributes implements Attributes, AttributesBuilder {
+
+  private static final int DEFAULT_CAPACITY = 8;
+
+  private AttributeKey<?>[] keys;
+  private Object[] values;
+  private int size;
+
+  UnsafeAttributes() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  UnsafeAttributes(int capacity) {
+    int initialCapacity = Math.max(capacity, 1);
+    keys = new AttributeKey<?>[initialCapacity];
+    values = new Object[initialCapacity];
+  }
 
   // Attributes
 
   @SuppressWarnings("unchecked")
   @Override
+  @Nullable
   public <T> T get(AttributeKey<T> key) {
-    return (T) super.get(key);
+    int index = indexOf(key);
+    return index < 0 ? null : (T) values[index];
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super AttributeKey<?>, ? super Object> consumer) {
+    for (int i = 0; i < size; i++) {
+      consumer.accept(keys[i], values[i]);
+    }
+  }
+
+  @Override
+  public int size() {
+    return size;
   }
 
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  // This can be called by user code in a RequestListener so copy. In practice, it should not be
+  // called as there is no real use case.
   @Override
   public Map<AttributeKey<?>, Object> asMap() {
-    return this;
+    Map<AttributeKey<?>, Object> map = new LinkedHashMap<>();
+    forEach(map::put);
+    return map;
   }
 
   // This can be called by user code in a RequestListener so copy. In practice, it should not be
@@ -57,13 +102,68 @@ final class UnsafeAttributes extends HashMap<AttributeKey<?>, Object>
 
   @Override
   public <T> AttributesBuilder put(AttributeKey<T> key, T value) {
-    super.put(key, value);
+    putInternal(key, value);
     return this;
   }
 
   @Override
   public AttributesBuilder putAll(Attributes attributes) {
-    attributes.forEach(this::put);
+    attributes.forEach(this::putInternal);
     return this;
   }
+
+  private void putInternal(@Nullable AttributeKey<?> key, @Nullable Object value) {
+    if (key == null || key.getKey().isEmpty() || value == null) {
+      return;
+    }
+    int index = indexOf(key);
+    if (index >= 0) {
+      values[index] = value;
+      return;
+    }
+    if (size == keys.length) {
+      int newCapacity = size * 2;
+      keys = Arrays.copyOf(keys, newCapacity);
+      values = Arrays.copyOf(values, newCapacity);
+    }
+    keys[size] = key;
+    values[size] = value;
+    size++;
+  }
+
+  private int indexOf(AttributeKey<?> key) {
+    // keys are almost always constants so an identity check finds nearly all of them
+    for (int i = 0; i < size; i++) {
+      if (keys[i] == key) {
+        return i;
+      }
+    }
+    for (int i = 0; i < size; i++) {
+      if (keys[i].equals(key)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    if (obj == this) {
+      return true;
+    }
+    if (!(obj instanceof Attributes)) {
+      return false;
+    }
+    return asMap().equals(((Attributes) obj).asMap());
+  }
+
+  @Override
+  public int hashCode() {
+    return asMap().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return asMap().toString();
+  }
 }
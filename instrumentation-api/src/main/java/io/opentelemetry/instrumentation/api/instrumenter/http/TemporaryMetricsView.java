@@ -8,69 +8,161 @@ package io.opentelemetry.instrumentation.api.instrumenter.http;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.instrumentation.api.caching.Cache;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.function.BiConsumer;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 // this is temporary, see
 // https://github.com/open-telemetry/opentelemetry-java-instrumentation/issues/3962#issuecomment-906606325
-@SuppressWarnings("rawtypes")
 final class TemporaryMetricsView {
 
-  private static final Set<AttributeKey> durationView = buildDurationView();
+  // attributes that identify the client; a view that contains any of them is not interned, since
+  // most requests would add a new entry and evict the common combinations
+  private static final Set<AttributeKey<?>> highCardinalityKeys =
+      new HashSet<>(
+          Arrays.asList(
+              SemanticAttributes.NET_PEER_NAME,
+              SemanticAttributes.NET_PEER_PORT,
+              SemanticAttributes.NET_PEER_IP));
 
-  private static final Set<AttributeKey> activeRequestsView = buildActiveRequestsView();
+  private static final CompiledView durationView = buildDurationView();
 
-  private static Set<AttributeKey> buildDurationView() {
+  private static final CompiledView activeRequestsView = buildActiveRequestsView();
+
+  private static CompiledView buildDurationView() {
     // the list of included metrics is from
     // https://github.com/open-telemetry/opentelemetry-specification/blob/main/specification/metrics/semantic_conventions/http-metrics.md#attributes
-    Set<AttributeKey> view = new HashSet<>();
-    view.add(SemanticAttributes.HTTP_METHOD);
-    view.add(SemanticAttributes.HTTP_HOST);
-    view.add(SemanticAttributes.HTTP_SCHEME);
-    view.add(SemanticAttributes.HTTP_STATUS_CODE);
-    view.add(SemanticAttributes.HTTP_FLAVOR);
-    view.add(SemanticAttributes.NET_PEER_NAME);
-    view.add(SemanticAttributes.NET_PEER_PORT);
-    view.add(SemanticAttributes.NET_PEER_IP);
-    view.add(SemanticAttributes.HTTP_SERVER_NAME);
-    view.add(SemanticAttributes.NET_HOST_NAME);
-    view.add(SemanticAttributes.NET_HOST_PORT);
-    return view;
+    return new CompiledView(
+        SemanticAttributes.HTTP_METHOD,
+        SemanticAttributes.HTTP_HOST,
+        SemanticAttributes.HTTP_SCHEME,
+        SemanticAttributes.HTTP_STATUS_CODE,
+        SemanticAttributes.HTTP_FLAVOR,
+        SemanticAttributes.NET_PEER_NAME,
+        SemanticAttributes.NET_PEER_PORT,
+        SemanticAttributes.NET_PEER_IP,
+        SemanticAttributes.HTTP_SERVER_NAME,
+        SemanticAttributes.NET_HOST_NAME,
+        SemanticAttributes.NET_HOST_PORT);
   }
 
-  private static Set<AttributeKey> buildActiveRequestsView() {
+  private static CompiledView buildActiveRequestsView() {
     // the list of included metrics is from
     // https://github.com/open-telemetry/opentelemetry-specification/blob/main/specification/metrics/semantic_conventions/http-metrics.md#attributes
-    Set<AttributeKey> view = new HashSet<>();
-    view.add(SemanticAttributes.HTTP_METHOD);
-    view.add(SemanticAttributes.HTTP_HOST);
-    view.add(SemanticAttributes.HTTP_SCHEME);
-    view.add(SemanticAttributes.HTTP_FLAVOR);
-    view.add(SemanticAttributes.HTTP_SERVER_NAME);
-    return view;
+    return new CompiledView(
+        SemanticAttributes.HTTP_METHOD,
+        SemanticAttributes.HTTP_HOST,
+        SemanticAttributes.HTTP_SCHEME,
+        SemanticAttributes.HTTP_FLAVOR,
+        SemanticAttributes.HTTP_SERVER_NAME);
   }
 
   static Attributes applyDurationView(Attributes attributes) {
-    return applyView(attributes, durationView);
+    return durationView.apply(attributes, Attributes.empty());
+  }
+
+  static Attributes applyDurationView(Attributes startAttributes, Attributes endAttributes) {
+    return durationView.apply(startAttributes, endAttributes);
   }
 
   static Attributes applyActiveRequestsView(Attributes attributes) {
-    return applyView(attributes, activeRequestsView);
+    return activeRequestsView.apply(attributes, Attributes.empty());
   }
 
-  @SuppressWarnings("unchecked")
-  private static Attributes applyView(Attributes attributes, Set<AttributeKey> view) {
-    AttributesBuilder filtered = Attributes.builder();
-    attributes.forEach(
-        (BiConsumer<AttributeKey, Object>)
-            (key, value) -> {
-              if (view.contains(key)) {
-                filtered.put(key, value);
-              }
-            });
-    return filtered.build();
+  /**
+   * A view compiled to a fixed array of keys: instead of iterating over all the (usually many more)
+   * attributes of a request only the keys of the view are looked up. The resulting attributes are
+   * interned, so that the most common, low-cardinality combinations are built only once and the
+   * metrics SDK always receives the same, already hashed instance for them. Combinations that
+   * contain a high-cardinality attribute are built every time instead.
+   */
+  @SuppressWarnings("rawtypes")
+  private static final class CompiledView {
+
+    private static final int MAX_INTERNED_ATTRIBUTES = 1000;
+
+    private final AttributeKey[] keys;
+    private final boolean[] highCardinality;
+    private final Cache<ViewValues, Attributes> interned =
+        Cache.newBuilder().setMaximumSize(MAX_INTERNED_ATTRIBUTES).build();
+
+    private CompiledView(AttributeKey... keys) {
+      this.keys = keys;
+      highCardinality = new boolean[keys.length];
+      for (int i = 0; i < keys.length; i++) {
+        highCardinality[i] = highCardinalityKeys.contains(keys[i]);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    Attributes apply(Attributes startAttributes, Attributes endAttributes) {
+      Object[] values = null;
+      boolean internable = true;
+      for (int i = 0; i < keys.length; i++) {
+        // end attributes take precedence, just like they do on the span
+        Object value = endAttributes.get(keys[i]);
+        if (value == null) {
+          value = startAttributes.get(keys[i]);
+        }
+        if (value != null) {
+          if (values == null) {
+            values = new Object[keys.length];
+          }
+          values[i] = value;
+          internable &= !highCardinality[i];
+        }
+      }
+      if (values == null) {
+        return Attributes.empty();
+      }
+      if (!internable) {
+        return build(values);
+      }
+      return interned.computeIfAbsent(
+          new ViewValues(values), viewValues -> build(viewValues.values));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Attributes build(Object[] values) {
+      AttributesBuilder builder = Attributes.builder();
+      for (int i = 0; i < keys.length; i++) {
+        if (values[i] != null) {
+          builder.put(keys[i], values[i]);
+        }
+      }
+      return builder.build();
+    }
+  }
+
+  /** The values of a view's keys, in the order of the keys; used as the interning key. */
+  private static final class ViewValues {
+    private final Object[] values;
+    private final int hashCode;
+
+    private ViewValues(Object[] values) {
+      this.values = values;
+      this.hashCode = Arrays.hashCode(values);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      if (!(obj instanceof ViewValues)) {
+        return false;
+      }
+      ViewValues other = (ViewValues) obj;
+      return hashCode == other.hashCode && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
   }
 
   private TemporaryMetricsView() {}
@@ -5,6 +5,8 @@
 
 package io.opentelemetry.instrumentation.api.instrumenter.net;
 
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.instrumentation.api.caching.Cache;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -15,10 +17,19 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  * attributes</a> from a {@link InetSocketAddress}. Most network libraries will provide access to a
  * {@link InetSocketAddress} so this is a convenient alternative to {@link NetAttributesExtractor}.
  * There is no meaning to implement both in the same instrumentation.
+ *
+ * <p>The peer name is never resolved with a blocking reverse DNS lookup: if the host name of the
+ * address is not known, it is looked up in the background and the IP address is used until then.
+ * Loopback addresses are resolved right away, since their names come from the local hosts file.
  */
 public abstract class InetSocketAddressNetAttributesExtractor<REQUEST, RESPONSE>
     extends NetAttributesExtractor<REQUEST, RESPONSE> {
 
+  // InetAddress.getHostAddress() formats a new string on every call, while the same address
+  // instance is usually shared by all requests of a connection
+  private static final Cache<InetAddress, String> hostAddresses =
+      Cache.newBuilder().setWeakKeys().build();
+
   /**
    * This method will be called twice: both when the request starts ({@code response} is always null
    * then) and when the response ends. This way it is possible to capture net attributes in both
@@ -34,10 +45,7 @@ public abstract class InetSocketAddressNetAttributesExtractor<REQUEST, RESPONSE>
     if (address == null) {
       return null;
     }
-    if (address.getAddress() != null) {
-      return address.getAddress().getHostName();
-    }
-    return address.getHostString();
+    return peerName(address, peerIp(address));
   }
 
   @Override
@@ -57,10 +65,36 @@ public abstract class InetSocketAddressNetAttributesExtractor<REQUEST, RESPONSE>
     if (address == null) {
       return null;
     }
+    return peerIp(address);
+  }
+
+  @Override
+  final void onPeer(AttributesBuilder attributes, REQUEST request, @Nullable RESPONSE response) {
+    InetSocketAddress address = getAddress(request, response);
+    if (address == null) {
+      return;
+    }
+    String peerIp = peerIp(address);
+    setPeer(attributes, peerName(address, peerIp), peerIp, address.getPort());
+  }
+
+  @Nullable
+  private static String peerIp(InetSocketAddress address) {
     InetAddress remoteAddress = address.getAddress();
     if (remoteAddress != null) {
-      return remoteAddress.getHostAddress();
+      return hostAddresses.computeIfAbsent(remoteAddress, InetAddress::getHostAddress);
     }
     return null;
   }
+
+  private static String peerName(InetSocketAddress address, @Nullable String peerIp) {
+    // getHostString() never does a reverse DNS lookup; it returns the IP address if the host name
+    // is not known
+    String hostString = address.getHostString();
+    InetAddress remoteAddress = address.getAddress();
+    if (remoteAddress == null || peerIp == null || !hostString.equals(peerIp)) {
+      return hostString;
+    }
+    return PeerNameResolver.getInstance().getHostName(remoteAddress, peerIp);
+  }
 }
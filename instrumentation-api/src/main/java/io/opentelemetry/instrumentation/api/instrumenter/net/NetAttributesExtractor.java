@@ -22,19 +22,7 @@ public abstract class NetAttributesExtractor<REQUEST, RESPONSE>
   @Override
   protected final void onStart(AttributesBuilder attributes, REQUEST request) {
     set(attributes, SemanticAttributes.NET_TRANSPORT, transport(request));
-
-    String peerIp = peerIp(request, null);
-    String peerName = peerName(request, null);
-
-    if (peerName != null && !peerName.equals(peerIp)) {
-      set(attributes, SemanticAttributes.NET_PEER_NAME, peerName);
-    }
-    set(attributes, SemanticAttributes.NET_PEER_IP, peerIp);
-
-    Integer peerPort = peerPort(request, null);
-    if (peerPort != null) {
-      set(attributes, SemanticAttributes.NET_PEER_PORT, (long) peerPort);
-    }
+    onPeer(attributes, request, null);
   }
 
   @Override
@@ -43,16 +31,26 @@ public abstract class NetAttributesExtractor<REQUEST, RESPONSE>
       REQUEST request,
       @Nullable RESPONSE response,
       @Nullable Throwable error) {
+    onPeer(attributes, request, response);
+  }
 
+  // overridden by InetSocketAddressNetAttributesExtractor, so that it can look up the address once
+  // per phase
+  void onPeer(AttributesBuilder attributes, REQUEST request, @Nullable RESPONSE response) {
     String peerIp = peerIp(request, response);
     String peerName = peerName(request, response);
+    setPeer(attributes, peerName, peerIp, peerPort(request, response));
+  }
 
+  static void setPeer(
+      AttributesBuilder attributes,
+      @Nullable String peerName,
+      @Nullable String peerIp,
+      @Nullable Integer peerPort) {
     if (peerName != null && !peerName.equals(peerIp)) {
       set(attributes, SemanticAttributes.NET_PEER_NAME, peerName);
     }
     set(attributes, SemanticAttributes.NET_PEER_IP, peerIp);
-
-    Integer peerPort = peerPort(request, response);
     if (peerPort != null) {
       set(attributes, SemanticAttributes.NET_PEER_PORT, (long) peerPort);
     }
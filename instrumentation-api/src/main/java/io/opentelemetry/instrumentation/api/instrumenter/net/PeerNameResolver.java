@@ -0,0 +1,125 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.net;
+
+import io.opentelemetry.instrumentation.api.caching.Cache;
+import java.net.InetAddress;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Resolves host names of IP addresses without ever doing a reverse DNS lookup on the calling
+ * thread. Resolved names are cached for a limited time; on a cache miss the lookup is queued to a
+ * background thread and the IP address is returned until the name is known. Loopback addresses are
+ * the exception: their names come from the local hosts file, so they are resolved right away.
+ */
+final class PeerNameResolver {
+
+  private static final long TTL_NANOS = TimeUnit.MINUTES.toNanos(5);
+  private static final int MAX_CACHE_SIZE = 1024;
+  private static final int MAX_PENDING_LOOKUPS = 256;
+
+  private static final PeerNameResolver INSTANCE =
+      new PeerNameResolver(
+          createExecutor(), InetAddress::getHostName, System::nanoTime, MAX_PENDING_LOOKUPS);
+
+  static PeerNameResolver getInstance() {
+    return INSTANCE;
+  }
+
+  private final Cache<InetAddress, Entry> cache =
+      Cache.newBuilder().setMaximumSize(MAX_CACHE_SIZE).build();
+  private final Set<InetAddress> pending = ConcurrentHashMap.newKeySet();
+  private final Executor executor;
+  private final Function<InetAddress, String> lookup;
+  private final LongSupplier nanoTime;
+  private final int maxPendingLookups;
+
+  // visible for tests
+  PeerNameResolver(
+      Executor executor,
+      Function<InetAddress, String> lookup,
+      LongSupplier nanoTime,
+      int maxPendingLookups) {
+    this.executor = executor;
+    this.lookup = lookup;
+    this.nanoTime = nanoTime;
+    this.maxPendingLookups = maxPendingLookups;
+  }
+
+  /**
+   * Returns the host name of {@code address} if it has already been resolved (or is a loopback
+   * address), or {@code ip} (the textual representation of {@code address}) otherwise.
+   */
+  String getHostName(InetAddress address, String ip) {
+    Entry entry = cache.get(address);
+    if (entry != null && nanoTime.getAsLong() - entry.resolvedAtNanos < TTL_NANOS) {
+      return entry.hostName;
+    }
+    if (address.isLoopbackAddress()) {
+      String hostName = lookup.apply(address);
+      cache.put(address, new Entry(hostName, nanoTime.getAsLong()));
+      return hostName;
+    }
+    scheduleLookup(address);
+    return entry != null ? entry.hostName : ip;
+  }
+
+  private void scheduleLookup(InetAddress address) {
+    if (pending.size() >= maxPendingLookups || !pending.add(address)) {
+      return;
+    }
+    try {
+      executor.execute(
+          () -> {
+            try {
+              cache.put(address, new Entry(lookup.apply(address), nanoTime.getAsLong()));
+            } finally {
+              pending.remove(address);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      pending.remove(address);
+    }
+  }
+
+  private static Executor createExecutor() {
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            1,
+            TimeUnit.MINUTES,
+            // bounded by maxPendingLookups
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+              Thread result = new Thread(runnable, "otel-peer-name-resolver");
+              result.setDaemon(true);
+              result.setContextClassLoader(null);
+              return result;
+            });
+    // don't keep an idle thread around when there is nothing to resolve
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private static final class Entry {
+    private final String hostName;
+    private final long resolvedAtNanos;
+
+    private Entry(String hostName, long resolvedAtNanos) {
+      this.hostName = hostName;
+      this.resolvedAtNanos = resolvedAtNanos;
+    }
+  }
+}
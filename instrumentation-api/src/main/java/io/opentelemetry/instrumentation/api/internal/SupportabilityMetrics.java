@@ -94,6 +94,9 @@ public final class SupportabilityMetrics {
   public static final class CounterNames {
     public static final String SQL_STATEMENT_SANITIZER_CACHE_MISS =
         "SqlStatementSanitizer cache miss";
+    public static final String TYPE_CACHE_HIT = "AgentCachingPoolStrategy type cache hit";
+    public static final String TYPE_CACHE_MISS = "AgentCachingPoolStrategy type cache miss";
+    public static final String TYPE_CACHE_EVICTION = "AgentCachingPoolStrategy type cache eviction";
 
     private CounterNames() {}
   }
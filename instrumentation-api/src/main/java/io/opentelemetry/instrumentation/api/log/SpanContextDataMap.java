@@ -0,0 +1,118 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.log;
+
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.SPAN_ID;
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_FLAGS;
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_ID;
+
+import io.opentelemetry.api.trace.SpanContext;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An immutable context data map containing the {@link LoggingContextConstants#TRACE_ID}, {@link
+ * LoggingContextConstants#SPAN_ID} and {@link LoggingContextConstants#TRACE_FLAGS} of a {@link
+ * SpanContext}. The values are read from the span context when they are accessed, so that logging
+ * instrumentations can inject the trace context into their context data with a single allocation
+ * instead of populating a new {@link java.util.HashMap} for every logging event.
+ */
+public final class SpanContextDataMap extends AbstractMap<String, String> {
+
+  private static final String[] KEYS = {TRACE_ID, SPAN_ID, TRACE_FLAGS};
+
+  /** Returns a new context data map of passed {@code spanContext}. */
+  public static Map<String, String> create(SpanContext spanContext) {
+    return new SpanContextDataMap(spanContext);
+  }
+
+  private final SpanContext spanContext;
+  @Nullable private Set<Entry<String, String>> entrySet;
+
+  private SpanContextDataMap(SpanContext spanContext) {
+    this.spanContext = spanContext;
+  }
+
+  @Override
+  public int size() {
+    return KEYS.length;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return false;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return TRACE_ID.equals(key) || SPAN_ID.equals(key) || TRACE_FLAGS.equals(key);
+  }
+
+  @Override
+  @Nullable
+  public String get(Object key) {
+    if (TRACE_ID.equals(key)) {
+      return spanContext.getTraceId();
+    }
+    if (SPAN_ID.equals(key)) {
+      return spanContext.getSpanId();
+    }
+    if (TRACE_FLAGS.equals(key)) {
+      return spanContext.getTraceFlags().asHex();
+    }
+    return null;
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super String, ? super String> action) {
+    action.accept(TRACE_ID, spanContext.getTraceId());
+    action.accept(SPAN_ID, spanContext.getSpanId());
+    action.accept(TRACE_FLAGS, spanContext.getTraceFlags().asHex());
+  }
+
+  @Override
+  public Set<Entry<String, String>> entrySet() {
+    if (entrySet == null) {
+      entrySet = new EntrySet();
+    }
+    return entrySet;
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<String, String>> {
+
+    @Override
+    public int size() {
+      return KEYS.length;
+    }
+
+    @Override
+    public Iterator<Entry<String, String>> iterator() {
+      return new Iterator<Entry<String, String>>() {
+        private int index;
+
+        @Override
+        public boolean hasNext() {
+          return index < KEYS.length;
+        }
+
+        @Override
+        public Entry<String, String> next() {
+          if (index >= KEYS.length) {
+            throw new NoSuchElementException();
+          }
+          String key = KEYS[index++];
+          return new SimpleImmutableEntry<>(key, get(key));
+        }
+      };
+    }
+  }
+}
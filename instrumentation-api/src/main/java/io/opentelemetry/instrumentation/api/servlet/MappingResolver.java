@@ -5,45 +5,52 @@
 
 package io.opentelemetry.instrumentation.api.servlet;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Helper class for finding a mapping that matches current request from a collection of mappings.
+ *
+ * <p>Mappings are compiled into two character tries when the resolver is built: one over the
+ * exact and prefix ({@code /foo/*}) mappings and one over the reversed suffix ({@code *.do})
+ * mappings. Resolving a request walks the servlet path and the path info once, without
+ * concatenating them, and picks the mapping the same way a servlet container does: an exact
+ * match, then the longest matching prefix, then the longest matching suffix, then the default
+ * mapping.
  */
 public final class MappingResolver {
-  private final Set<String> exactMatches;
-  private final List<WildcardMatcher> wildcardMatchers;
+  private final Node pathTrie;
+  private final Node suffixTrie;
   private final boolean hasDefault;
 
-  private MappingResolver(
-      Set<String> exactMatches, List<WildcardMatcher> wildcardMatchers, boolean hasDefault) {
-    this.exactMatches = exactMatches.isEmpty() ? Collections.emptySet() : exactMatches;
-    this.wildcardMatchers = wildcardMatchers.isEmpty() ? Collections.emptyList() : wildcardMatchers;
+  private MappingResolver(Node pathTrie, Node suffixTrie, boolean hasDefault) {
+    this.pathTrie = pathTrie;
+    this.suffixTrie = suffixTrie;
     this.hasDefault = hasDefault;
   }
 
   public static MappingResolver build(Collection<String> mappings) {
-    List<WildcardMatcher> wildcardMatchers = new ArrayList<>();
-    Set<String> exactMatches = new HashSet<>();
+    Node pathTrie = new Node();
+    Node suffixTrie = new Node();
     boolean hasDefault = false;
     for (String mapping : mappings) {
       if (mapping.equals("")) {
-        exactMatches.add("/");
+        pathTrie.add("/").exactMapping = "/";
       } else if (mapping.equals("/") || mapping.equals("/*")) {
         hasDefault = true;
       } else if (mapping.startsWith("*.") && mapping.length() > 2) {
-        wildcardMatchers.add(new SuffixMatcher("/" + mapping, mapping.substring(1)));
+        Node node = suffixTrie.addReversed(mapping.substring(1));
+        if (node.suffixMapping == null) {
+          node.suffixMapping = "/" + mapping;
+        }
       } else if (mapping.endsWith("/*")) {
-        wildcardMatchers.add(
-            new PrefixMatcher(mapping, mapping.substring(0, mapping.length() - 2)));
+        Node node = pathTrie.add(mapping.substring(0, mapping.length() - 2));
+        if (node.prefixMapping == null) {
+          node.prefixMapping = mapping;
+        }
       } else {
-        exactMatches.add(mapping);
+        pathTrie.add(mapping).exactMapping = mapping;
       }
     }
 
@@ -52,7 +59,7 @@ public final class MappingResolver {
       hasDefault = true;
     }
 
-    return new MappingResolver(exactMatches, wildcardMatchers, hasDefault);
+    return new MappingResolver(pathTrie, suffixTrie, hasDefault);
   }
 
   /** Find mapping for requested path. */
@@ -62,81 +69,125 @@ public final class MappingResolver {
       return null;
     }
 
-    // get full path inside context
-    String path = servletPath;
-    if (pathInfo != null) {
-      path += pathInfo;
-    }
-    // trim trailing /
-    if (path.endsWith("/") && !path.equals("/")) {
-      path = path.substring(0, path.length() - 1);
+    // the full path inside context is servletPath + pathInfo, without the trailing /
+    int length = servletPath.length() + (pathInfo != null ? pathInfo.length() : 0);
+    if (length > 1 && charAt(servletPath, pathInfo, length - 1) == '/') {
+      length--;
     }
 
-    if (exactMatches.contains(path)) {
-      return path;
+    // exact and longest prefix match
+    String prefixMapping = null;
+    Node node = pathTrie;
+    for (int i = 0; ; i++) {
+      if (i == length) {
+        if (node.exactMapping != null) {
+          return node.exactMapping;
+        }
+        if (node.prefixMapping != null) {
+          prefixMapping = node.prefixMapping;
+        }
+        break;
+      }
+      char c = charAt(servletPath, pathInfo, i);
+      if (c == '/' && node.prefixMapping != null) {
+        prefixMapping = node.prefixMapping;
+      }
+      node = node.child(c);
+      if (node == null) {
+        break;
+      }
+    }
+    if (prefixMapping != null) {
+      return prefixMapping;
     }
 
-    for (WildcardMatcher matcher : wildcardMatchers) {
-      if (matcher.match(path)) {
-        String mapping = matcher.getMapping();
-        // for jsp return servlet path
-        if ("/*.jsp".equals(mapping) || "/*.jspx".equals(mapping)) {
-          return servletPath;
-        }
-        return mapping;
+    // longest suffix match
+    String suffixMapping = null;
+    node = suffixTrie;
+    for (int i = length - 1; i >= 0; i--) {
+      node = node.child(charAt(servletPath, pathInfo, i));
+      if (node == null) {
+        break;
+      }
+      if (node.suffixMapping != null) {
+        suffixMapping = node.suffixMapping;
       }
     }
+    if (suffixMapping != null) {
+      // for jsp return servlet path
+      if ("/*.jsp".equals(suffixMapping) || "/*.jspx".equals(suffixMapping)) {
+        return servletPath;
+      }
+      return suffixMapping;
+    }
 
     if (hasDefault) {
-      return path.equals("/") ? "/" : "/*";
+      return length == 1 && charAt(servletPath, pathInfo, 0) == '/' ? "/" : "/*";
     }
 
     return null;
   }
 
-  private interface WildcardMatcher {
-    boolean match(String path);
-
-    String getMapping();
+  private static char charAt(String servletPath, @Nullable String pathInfo, int index) {
+    int servletPathLength = servletPath.length();
+    return index < servletPathLength
+        ? servletPath.charAt(index)
+        : pathInfo.charAt(index - servletPathLength);
   }
 
-  private static class PrefixMatcher implements WildcardMatcher {
-    private final String mapping;
-    private final String prefix;
+  private static final class Node {
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
 
-    private PrefixMatcher(String mapping, String prefix) {
-      this.mapping = mapping;
-      this.prefix = prefix;
-    }
+    // sorted, so that children can be found with a binary search
+    private char[] keys = NO_KEYS;
+    private Node[] children = NO_CHILDREN;
 
-    @Override
-    public boolean match(String path) {
-      return path.equals(prefix) || path.startsWith(prefix + "/");
-    }
+    @Nullable private String exactMapping;
+    @Nullable private String prefixMapping;
+    @Nullable private String suffixMapping;
 
-    @Override
-    public String getMapping() {
-      return mapping;
+    @Nullable
+    private Node child(char c) {
+      int index = Arrays.binarySearch(keys, c);
+      return index >= 0 ? children[index] : null;
     }
-  }
-
-  private static class SuffixMatcher implements WildcardMatcher {
-    private final String mapping;
-    private final String suffix;
 
-    private SuffixMatcher(String mapping, String suffix) {
-      this.mapping = mapping;
-      this.suffix = suffix;
+    private Node add(String path) {
+      Node node = this;
+      for (int i = 0; i < path.length(); i++) {
+        node = node.getOrAddChild(path.charAt(i));
+      }
+      return node;
     }
 
-    @Override
-    public boolean match(String path) {
-      return path.endsWith(suffix);
+    private Node addReversed(String path) {
+      Node node = this;
+      for (int i = path.length() - 1; i >= 0; i--) {
+        node = node.getOrAddChild(path.charAt(i));
+      }
+      return node;
     }
 
-    @Override
-    public String getMapping() {
-      return mapping;
+    private Node getOrAddChild(char c) {
+      int index = Arrays.binarySearch(keys, c);
+      if (index >= 0) {
+        return children[index];
+      }
+      int insertAt = -index - 1;
+      char[] newKeys = new char[keys.length + 1];
+      Node[] newChildren = new Node[children.length + 1];
+      System.arraycopy(keys, 0, newKeys, 0, insertAt);
+      System.arraycopy(children, 0, newChildren, 0, insertAt);
+      System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+      System.arraycopy(
+          children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+      Node child = new Node();
+      newKeys[insertAt] = c;
+      newChildren[insertAt] = child;
+      keys = newKeys;
+      children = newChildren;
+      return child;
     }
   }
 
@@ -8,6 +8,7 @@ package io.opentelemetry.instrumentation.api.servlet;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.instrumentation.api.config.Config;
 import io.opentelemetry.instrumentation.api.tracer.ServerSpan;
 import java.util.function.Supplier;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -23,23 +24,37 @@ public final class ServerSpanNaming {
   private static final ServerSpanNameSupplier<Supplier<String>> ZERO_ARG_ADAPTER =
       (context, supplier) -> supplier.get();
 
+  private static final boolean DEFERRED =
+      Config.get()
+          .getBoolean("otel.instrumentation.experimental.deferred-server-span-naming", false);
+
   public static Context init(Context context, Source initialSource) {
+    return init(context, initialSource, DEFERRED);
+  }
+
+  // visible for tests
+  static Context init(Context context, Source initialSource, boolean deferred) {
     ServerSpanNaming serverSpanNaming = context.get(CONTEXT_KEY);
     if (serverSpanNaming != null) {
       // TODO (trask) does this ever happen?
       serverSpanNaming.updatedBySource = initialSource;
       return context;
     }
-    return context.with(CONTEXT_KEY, new ServerSpanNaming(initialSource));
+    return context.with(CONTEXT_KEY, new ServerSpanNaming(initialSource, deferred));
   }
 
+  private final boolean deferred;
   private volatile Source updatedBySource;
   // Length of the currently set name. This is used when setting name from a servlet filter
   // to pick the most descriptive (longest) name.
   private volatile int nameLength;
+  // Name candidates that have not been computed yet, highest priority first. Only used in the
+  // deferred mode, see resolveDeferredName().
+  @Nullable private volatile DeferredName<?, ?> deferredName;
 
-  private ServerSpanNaming(Source initialSource) {
+  private ServerSpanNaming(Source initialSource, boolean deferred) {
     this.updatedBySource = initialSource;
+    this.deferred = deferred;
   }
 
   /**
@@ -78,6 +93,33 @@ public final class ServerSpanNaming {
       ServerSpanNameTwoArgSupplier<T, U> serverSpanName,
       T arg1,
       U arg2) {
+    updateServerSpanName(context, source, serverSpanName, arg1, arg2, /* mayDefer= */ true);
+  }
+
+  /**
+   * Same as {@link #updateServerSpanName(Context, Source, ServerSpanNameSupplier, Object)}, but the
+   * {@link ServerSpanNameSupplier} is always called right away, even if deferred server span naming
+   * is enabled. This must be used for suppliers that can only be called at this point of the
+   * request processing, e.g. because they have side effects on the request.
+   */
+  public static <T> void updateServerSpanNameEagerly(
+      Context context, Source source, ServerSpanNameSupplier<T> serverSpanName, T arg1) {
+    updateServerSpanName(
+        context,
+        source,
+        OneArgAdapter.getInstance(),
+        arg1,
+        serverSpanName,
+        /* mayDefer= */ false);
+  }
+
+  private static <T, U> void updateServerSpanName(
+      Context context,
+      Source source,
+      ServerSpanNameTwoArgSupplier<T, U> serverSpanName,
+      T arg1,
+      U arg2,
+      boolean mayDefer) {
     Span serverSpan = ServerSpan.fromContextOrNull(context);
     // checking isRecording() is a helpful optimization for more expensive suppliers
     // (e.g. Spring MVC instrumentation's HandlerAdapterInstrumentation)
@@ -97,6 +139,14 @@ public final class ServerSpanNaming {
     boolean onlyIfBetterName =
         !source.useFirst && source.order == serverSpanNaming.updatedBySource.order;
     if (source.order > serverSpanNaming.updatedBySource.order || onlyIfBetterName) {
+      if (mayDefer && serverSpanNaming.deferred && source.useFirst) {
+        // only remember the supplier, the name is computed once when the request ends
+        serverSpanNaming.deferredName =
+            new DeferredName<>(
+                context, serverSpanName, arg1, arg2, serverSpanNaming.deferredName);
+        serverSpanNaming.updatedBySource = source;
+        return;
+      }
       String name = serverSpanName.get(context, arg1, arg2);
       if (name != null
           && !name.isEmpty()
@@ -104,6 +154,8 @@ public final class ServerSpanNaming {
         serverSpan.updateName(name);
         serverSpanNaming.updatedBySource = source;
         serverSpanNaming.nameLength = name.length();
+        // the name computed now has a higher priority than any name that was deferred before
+        serverSpanNaming.deferredName = null;
       }
     }
   }
@@ -127,6 +179,44 @@ public final class ServerSpanNaming {
     }
   }
 
+  /**
+   * Computes the server span name from the name suppliers that were deferred by {@link
+   * #updateServerSpanName(Context, Source, ServerSpanNameTwoArgSupplier, Object, Object)}. The
+   * supplier of the highest priority {@link Source} that returns a non-empty name wins; if none of
+   * them does, the name that the span already has is kept. Deferring is enabled with the {@code
+   * otel.instrumentation.experimental.deferred-server-span-naming} configuration property and
+   * saves computing (and concatenating) the names of all sources except the one that is used in
+   * the end.
+   *
+   * <p>Deferred suppliers must still be called while the request is valid, so this method is called
+   * by the servlet instrumentation when the outermost servlet or filter returns, before the servlet
+   * container recycles the request or dispatches it to an error page. Any names deferred after that
+   * are resolved by the server {@code Instrumenter} right before the server span is ended.
+   */
+  public static void resolveDeferredName(Context context) {
+    ServerSpanNaming serverSpanNaming = context.get(CONTEXT_KEY);
+    if (serverSpanNaming == null) {
+      return;
+    }
+    DeferredName<?, ?> deferredName = serverSpanNaming.deferredName;
+    if (deferredName == null) {
+      return;
+    }
+    serverSpanNaming.deferredName = null;
+    Span serverSpan = ServerSpan.fromContextOrNull(context);
+    if (serverSpan == null || !serverSpan.isRecording()) {
+      return;
+    }
+    for (; deferredName != null; deferredName = deferredName.next) {
+      String name = deferredName.get();
+      if (name != null && !name.isEmpty()) {
+        serverSpan.updateName(name);
+        serverSpanNaming.nameLength = name.length();
+        return;
+      }
+    }
+  }
+
   private boolean isBetterName(String name) {
     return name.length() > nameLength;
   }
@@ -152,6 +242,32 @@ public final class ServerSpanNaming {
     }
   }
 
+  private static final class DeferredName<T, U> {
+    private final Context context;
+    private final ServerSpanNameTwoArgSupplier<T, U> supplier;
+    private final T arg1;
+    private final U arg2;
+    @Nullable private final DeferredName<?, ?> next;
+
+    private DeferredName(
+        Context context,
+        ServerSpanNameTwoArgSupplier<T, U> supplier,
+        T arg1,
+        U arg2,
+        @Nullable DeferredName<?, ?> next) {
+      this.context = context;
+      this.supplier = supplier;
+      this.arg1 = arg1;
+      this.arg2 = arg2;
+      this.next = next;
+    }
+
+    @Nullable
+    private String get() {
+      return supplier.get(context, arg1, arg2);
+    }
+  }
+
   private static class OneArgAdapter<T>
       implements ServerSpanNameTwoArgSupplier<T, ServerSpanNameSupplier<T>> {
 
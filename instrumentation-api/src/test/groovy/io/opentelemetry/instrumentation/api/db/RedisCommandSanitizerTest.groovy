@@ -5,6 +5,7 @@
 
 package io.opentelemetry.instrumentation.api.db
 
+import java.nio.ByteBuffer
 import spock.lang.Specification
 import spock.lang.Unroll
 
@@ -145,4 +146,72 @@ class RedisCommandSanitizerTest extends Specification {
     then:
     sanitized == "NEWAUTH ? ?"
   }
+
+  def "should render text binary arguments and summarize non-text ones"() {
+    when:
+    def args = ["key".getBytes("UTF-8"), [0, 1, 2] as byte[]]
+    def sanitized = RedisCommandSanitizer.sanitize("MGET", args)
+
+    then:
+    sanitized == "MGET key (3 bytes)"
+  }
+
+  def "should render non-text binary arguments when requested"() {
+    when:
+    def sanitized = new RedisStatementBuilder("GET", 100, 100, true)
+      .appendArgument([0x61, -1] as byte[])
+      .toString()
+
+    then:
+    sanitized == "GET a\uFFFD"
+  }
+
+  def "should truncate long arguments"() {
+    when:
+    def sanitized = new RedisStatementBuilder("MGET", 100, 4, false)
+      .appendArgument("abcdefgh")
+      .appendArgument("abc")
+      .appendArgument("h\u00e9llo".getBytes("UTF-8"))
+      .toString()
+
+    then:
+    sanitized == "MGET abcd... abc h\u00e9l..."
+  }
+
+  def "should render the remaining bytes of a byte buffer without consuming them"() {
+    given:
+    def text = ByteBuffer.wrap("xxabcdefgh".getBytes("UTF-8"))
+    text.position(2)
+    def binary = ByteBuffer.allocate(2048)
+
+    when:
+    def sanitized = new RedisStatementBuilder("MGET", 100, 4, false)
+      .appendArgument(text)
+      .appendArgument(binary)
+      .toString()
+
+    then:
+    sanitized == "MGET abcd... (2048 bytes)"
+    text.position() == 2
+    text.limit() == 10
+    binary.remaining() == 2048
+  }
+
+  def "should stop rendering once the statement is full"() {
+    given:
+    def statement = new RedisStatementBuilder("DEL", 12, 100, false)
+
+    when:
+    statement.appendArgument("key1").appendArgument("key2")
+
+    then:
+    statement.isFull()
+    statement.toString() == "DEL key1 key..."
+
+    when:
+    statement.appendArgument("key3").appendMask()
+
+    then:
+    statement.toString() == "DEL key1 key..."
+  }
 }
@@ -8,6 +8,14 @@ package io.opentelemetry.instrumentation.api.caching;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -97,6 +105,43 @@ class CacheTest {
       await().untilAsserted(() -> assertThat(weakLockFreeCache.size()).isEqualTo(0));
     }
 
+    @Test
+    void unboundedConcurrentMisses() throws Exception {
+      Cache<Object, Integer> cache = Cache.newBuilder().setWeakKeys().build();
+      List<Object> keys = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        keys.add(new Object());
+      }
+      AtomicInteger invocations = new AtomicInteger();
+
+      int threads = 8;
+      ExecutorService executor = Executors.newFixedThreadPool(threads);
+      try {
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+          futures.add(
+              executor.submit(
+                  () -> {
+                    startLatch.await();
+                    for (Object key : keys) {
+                      cache.computeIfAbsent(key, unused -> invocations.incrementAndGet());
+                    }
+                    return null;
+                  }));
+        }
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+          future.get(10, TimeUnit.SECONDS);
+        }
+      } finally {
+        executor.shutdownNow();
+      }
+
+      assertThat(invocations.get()).isEqualTo(keys.size());
+      assertThat(((WeakLockFreeCache<?, ?>) cache).size()).isEqualTo(keys.size());
+    }
+
     @Test
     void bounded() {
       Cache<String, String> cache = Cache.newBuilder().setWeakKeys().setMaximumSize(1).build();
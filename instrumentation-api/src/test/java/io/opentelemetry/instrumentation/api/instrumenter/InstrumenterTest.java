@@ -10,6 +10,7 @@ import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.attri
 import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.Mockito.when;
 
+import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanContext;
@@ -523,6 +524,127 @@ class InstrumenterTest {
     assertThat(context.get(testKey)).isEqualTo("testVal");
   }
 
+  @Test
+  void metricsOnly() {
+    Map<String, Attributes> listenerAttributes = new HashMap<>();
+    RequestListener requestListener =
+        new RequestListener() {
+          @Override
+          public Context start(Context context, Attributes startAttributes, long startNanos) {
+            listenerAttributes.put("start", startAttributes);
+            return context;
+          }
+
+          @Override
+          public void end(Context context, Attributes endAttributes, long endNanos) {
+            listenerAttributes.put("end", endAttributes);
+          }
+        };
+
+    Instrumenter<Map<String, String>, Map<String, String>> instrumenter =
+        Instrumenter.<Map<String, String>, Map<String, String>>newBuilder(
+                otelTesting.getOpenTelemetry(), "test", unused -> "span")
+            .addAttributesExtractors(new AttributesExtractor1(), new AttributesExtractor2())
+            .addSpanLinksExtractor(new LinksExtractor())
+            .addRequestMetrics(meter -> requestListener)
+            .setMetricsOnly(true)
+            .newServerInstrumenter(new MapGetter());
+
+    Context context = instrumenter.start(Context.root(), REQUEST);
+
+    assertThat(Span.fromContext(context).getSpanContext().isValid()).isFalse();
+    assertThat(SpanKey.SERVER.fromContextOrNull(context)).isNotNull();
+    assertThat(instrumenter.shouldStart(context, REQUEST)).isFalse();
+
+    instrumenter.end(context, REQUEST, RESPONSE, null);
+
+    assertThat(listenerAttributes.get("start"))
+        .containsOnly(
+            attributeEntry("req1", "req1_value"),
+            attributeEntry("req2", "req2_2_value"),
+            attributeEntry("req3", "req3_value"));
+    assertThat(listenerAttributes.get("end"))
+        .containsOnly(
+            attributeEntry("resp1", "resp1_value"),
+            attributeEntry("resp2", "resp2_2_value"),
+            attributeEntry("resp3", "resp3_value"));
+    assertThat(otelTesting.getSpans()).isEmpty();
+  }
+
+  @Test
+  void earlySamplingDecision_recording() {
+    Instrumenter<Map<String, String>, Map<String, String>> instrumenter =
+        Instrumenter.<Map<String, String>, Map<String, String>>newBuilder(
+                otelTesting.getOpenTelemetry(), "test", unused -> "span")
+            .addAttributesExtractors(new AttributesExtractor1(), new AttributesExtractor2())
+            .setEarlySamplingDecision(true)
+            .newInstrumenter();
+
+    Context context = instrumenter.start(Context.root(), REQUEST);
+    instrumenter.end(context, REQUEST, RESPONSE, null);
+
+    otelTesting
+        .assertTraces()
+        .hasTracesSatisfyingExactly(
+            trace ->
+                trace.hasSpansSatisfyingExactly(
+                    span ->
+                        span.hasName("span")
+                            .hasAttributesSatisfying(
+                                attributes ->
+                                    assertThat(attributes)
+                                        .containsOnly(
+                                            attributeEntry("req1", "req1_value"),
+                                            attributeEntry("req2", "req2_2_value"),
+                                            attributeEntry("req3", "req3_value"),
+                                            attributeEntry("resp1", "resp1_value"),
+                                            attributeEntry("resp2", "resp2_2_value"),
+                                            attributeEntry("resp3", "resp3_value")))));
+  }
+
+  @Test
+  void earlySamplingDecision_notRecording() {
+    AttributesExtractor<Map<String, String>, Map<String, String>> failingExtractor =
+        new AttributesExtractor<Map<String, String>, Map<String, String>>() {
+          @Override
+          protected void onStart(AttributesBuilder attributes, Map<String, String> request) {
+            throw new AssertionError("should not be called for a span that is not recording");
+          }
+
+          @Override
+          protected void onEnd(
+              AttributesBuilder attributes,
+              Map<String, String> request,
+              @Nullable Map<String, String> response,
+              @Nullable Throwable error) {
+            throw new AssertionError("should not be called for a span that is not recording");
+          }
+        };
+    Instrumenter<Map<String, String>, Map<String, String>> instrumenter =
+        Instrumenter.<Map<String, String>, Map<String, String>>newBuilder(
+                otelTesting.getOpenTelemetry(), "test", unused -> "span")
+            .addAttributesExtractor(failingExtractor)
+            .setEarlySamplingDecision(true)
+            .newInstrumenter();
+
+    // the default parent based sampler drops children of a parent that was not sampled
+    Context parentContext =
+        Context.root()
+            .with(
+                Span.wrap(
+                    SpanContext.create(
+                        TraceId.fromLongs(0, 1),
+                        SpanId.fromLong(1),
+                        TraceFlags.getDefault(),
+                        TraceState.getDefault())));
+
+    Context context = instrumenter.start(parentContext, REQUEST);
+    assertThat(Span.fromContext(context).isRecording()).isFalse();
+    instrumenter.end(context, REQUEST, RESPONSE, null);
+
+    assertThat(otelTesting.getSpans()).isEmpty();
+  }
+
   @Test
   void extractForwarded() {
     assertThat(ServerInstrumenter.extractForwarded("for=1.1.1.1")).isEqualTo("1.1.1.1");
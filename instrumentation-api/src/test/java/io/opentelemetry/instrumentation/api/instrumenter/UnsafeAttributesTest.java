@@ -83,4 +83,25 @@ class UnsafeAttributesTest {
             attributeEntry("lives", 9L),
             attributeEntry("clothes", "fur"));
   }
+
+  @Test
+  void growsBeyondInitialCapacity() {
+    UnsafeAttributes attributes = new UnsafeAttributes(1);
+    attributes.put("first", "1");
+    attributes.put("second", "2");
+    attributes.put(AttributeKey.longKey("third"), 3);
+    // Overwrites
+    attributes.put("first", "one");
+    // Ignored
+    attributes.put(AttributeKey.stringKey("fourth"), null);
+
+    assertThat(attributes.size()).isEqualTo(3);
+    assertThat(attributes.get(AttributeKey.stringKey("first"))).isEqualTo("one");
+    assertThat(attributes.get(AttributeKey.stringKey("fourth"))).isNull();
+    assertThat((Attributes) attributes)
+        .containsOnly(
+            attributeEntry("first", "one"),
+            attributeEntry("second", "2"),
+            attributeEntry("third", 3L));
+  }
 }
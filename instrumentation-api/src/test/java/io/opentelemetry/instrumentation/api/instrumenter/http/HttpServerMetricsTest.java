@@ -34,7 +34,6 @@ class HttpServerMetricsTest {
             .put("net.host.port", 1234)
             .build();
 
-    // Currently ignored.
     Attributes responseAttributes =
         Attributes.builder()
             .put("http.flavor", "2.0")
@@ -108,7 +107,10 @@ class HttpServerMetricsTest {
                                     attributeEntry("http.method", "GET"),
                                     attributeEntry("http.scheme", "https"),
                                     attributeEntry("net.host.name", "localhost"),
-                                    attributeEntry("net.host.port", 1234L))));
+                                    attributeEntry("net.host.port", 1234L),
+                                    attributeEntry("http.flavor", "2.0"),
+                                    attributeEntry("http.server_name", "server"),
+                                    attributeEntry("http.status_code", 200L))));
 
     listener.end(context2, responseAttributes, nanos(300));
 
@@ -8,6 +8,7 @@ package io.opentelemetry.instrumentation.api.instrumenter.http;
 import static io.opentelemetry.instrumentation.api.instrumenter.http.TemporaryMetricsView.applyActiveRequestsView;
 import static io.opentelemetry.instrumentation.api.instrumenter.http.TemporaryMetricsView.applyDurationView;
 import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.attributeEntry;
+import static org.assertj.core.api.Assertions.assertThat;
 
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions;
@@ -30,6 +31,48 @@ public class TemporaryMetricsViewTest {
             attributeEntry("http.method", "GET"), attributeEntry("net.peer.name", "somehost"));
   }
 
+  @Test
+  public void shouldApplyDurationViewToStartAndEndAttributes() {
+    Attributes startAttributes =
+        Attributes.builder()
+            .put(SemanticAttributes.HTTP_METHOD, "GET")
+            .put(SemanticAttributes.HTTP_URL, "http://somehost/high/cardinality/12345")
+            .put(SemanticAttributes.HTTP_FLAVOR, "1.1")
+            .build();
+
+    Attributes endAttributes =
+        Attributes.builder()
+            .put(SemanticAttributes.HTTP_STATUS_CODE, 200)
+            .put(SemanticAttributes.HTTP_FLAVOR, "2.0")
+            .build();
+
+    Attributes view = applyDurationView(startAttributes, endAttributes);
+    OpenTelemetryAssertions.assertThat(view)
+        .containsOnly(
+            attributeEntry("http.method", "GET"),
+            attributeEntry("http.status_code", 200L),
+            attributeEntry("http.flavor", "2.0"));
+    assertThat(applyDurationView(startAttributes, endAttributes)).isSameAs(view);
+  }
+
+  @Test
+  public void shouldNotInternHighCardinalityAttributes() {
+    Attributes attributes =
+        Attributes.builder()
+            .put(SemanticAttributes.HTTP_METHOD, "GET")
+            .put(SemanticAttributes.NET_PEER_IP, "127.0.0.1")
+            .put(SemanticAttributes.NET_PEER_PORT, 54321L)
+            .build();
+
+    Attributes view = applyDurationView(attributes);
+    OpenTelemetryAssertions.assertThat(view)
+        .containsOnly(
+            attributeEntry("http.method", "GET"),
+            attributeEntry("net.peer.ip", "127.0.0.1"),
+            attributeEntry("net.peer.port", 54321L));
+    assertThat(applyDurationView(attributes)).isEqualTo(view).isNotSameAs(view);
+  }
+
   @Test
   public void shouldApplyActiveRequestsView() {
     Attributes attributes =
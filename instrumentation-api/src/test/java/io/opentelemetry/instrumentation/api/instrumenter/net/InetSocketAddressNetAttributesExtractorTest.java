@@ -11,7 +11,10 @@ import static org.assertj.core.api.Assertions.entry;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -97,4 +100,117 @@ class InetSocketAddressNetAttributesExtractorTest {
             entry(SemanticAttributes.NET_PEER_NAME, "github.com"),
             entry(SemanticAttributes.NET_PEER_PORT, 123L));
   }
+
+  @Test
+  void ipWithoutHostName() throws UnknownHostException {
+    // given
+    InetSocketAddress address =
+        new InetSocketAddress(InetAddress.getByAddress(new byte[] {10, 1, 2, 3}), 123);
+
+    // when
+    AttributesBuilder startAttributes = Attributes.builder();
+    extractor.onStart(startAttributes, address);
+
+    // then
+    // the host name is resolved in the background, so only the IP is known at this point
+    assertThat(startAttributes.build())
+        .containsOnly(
+            entry(SemanticAttributes.NET_TRANSPORT, SemanticAttributes.NetTransportValues.IP_TCP),
+            entry(SemanticAttributes.NET_PEER_IP, "10.1.2.3"),
+            entry(SemanticAttributes.NET_PEER_PORT, 123L));
+  }
+
+  @Test
+  void sameAddressOnEnd() throws UnknownHostException {
+    // given
+    InetSocketAddress address =
+        new InetSocketAddress(
+            InetAddress.getByAddress("example.com", new byte[] {10, 1, 2, 3}), 123);
+
+    // when
+    AttributesBuilder startAttributes = Attributes.builder();
+    extractor.onStart(startAttributes, address);
+
+    AttributesBuilder endAttributes = Attributes.builder();
+    extractor.onEnd(endAttributes, address, null, null);
+
+    // then
+    assertThat(startAttributes.build())
+        .containsOnly(
+            entry(SemanticAttributes.NET_TRANSPORT, SemanticAttributes.NetTransportValues.IP_TCP),
+            entry(SemanticAttributes.NET_PEER_IP, "10.1.2.3"),
+            entry(SemanticAttributes.NET_PEER_NAME, "example.com"),
+            entry(SemanticAttributes.NET_PEER_PORT, 123L));
+
+    assertThat(endAttributes.build())
+        .containsOnly(
+            entry(SemanticAttributes.NET_PEER_IP, "10.1.2.3"),
+            entry(SemanticAttributes.NET_PEER_NAME, "example.com"),
+            entry(SemanticAttributes.NET_PEER_PORT, 123L));
+  }
+
+  @Test
+  void addressSetAfterStart() throws UnknownHostException {
+    // given
+    InetSocketAddress address =
+        new InetSocketAddress(
+            InetAddress.getByAddress("example.com", new byte[] {10, 1, 2, 5}), 123);
+    AtomicReference<InetSocketAddress> request = new AtomicReference<>();
+
+    InetSocketAddressNetAttributesExtractor<AtomicReference<InetSocketAddress>, Void>
+        mutableExtractor =
+            new InetSocketAddressNetAttributesExtractor<
+                AtomicReference<InetSocketAddress>, Void>() {
+              @Override
+              public InetSocketAddress getAddress(
+                  AtomicReference<InetSocketAddress> holder, Void response) {
+                return holder.get();
+              }
+
+              @Override
+              public String transport(AtomicReference<InetSocketAddress> holder) {
+                return SemanticAttributes.NetTransportValues.IP_TCP;
+              }
+            };
+
+    // when
+    AttributesBuilder startAttributes = Attributes.builder();
+    mutableExtractor.onStart(startAttributes, request);
+
+    // the address is only known once the connection is made, e.g. gRPC sets it on the request
+    // after the span has been started
+    request.set(address);
+
+    AttributesBuilder endAttributes = Attributes.builder();
+    mutableExtractor.onEnd(endAttributes, request, null, new IllegalStateException("test"));
+
+    // then
+    assertThat(startAttributes.build())
+        .containsOnly(
+            entry(SemanticAttributes.NET_TRANSPORT, SemanticAttributes.NetTransportValues.IP_TCP));
+
+    assertThat(endAttributes.build())
+        .containsOnly(
+            entry(SemanticAttributes.NET_PEER_IP, "10.1.2.5"),
+            entry(SemanticAttributes.NET_PEER_NAME, "example.com"),
+            entry(SemanticAttributes.NET_PEER_PORT, 123L));
+  }
+
+  @Test
+  void sameAddressWithoutHostNameOnEnd() throws UnknownHostException {
+    // given
+    InetSocketAddress address =
+        new InetSocketAddress(InetAddress.getByAddress(new byte[] {10, 1, 2, 4}), 123);
+
+    // when
+    AttributesBuilder endAttributes = Attributes.builder();
+    extractor.onEnd(endAttributes, address, null, null);
+
+    // then
+    // the host name may have been resolved in the background in the meantime
+    assertThat(endAttributes.build())
+        .containsOnly(
+            entry(SemanticAttributes.NET_PEER_IP, "10.1.2.4"),
+            entry(SemanticAttributes.NET_PEER_PORT, 123L));
+  }
 }
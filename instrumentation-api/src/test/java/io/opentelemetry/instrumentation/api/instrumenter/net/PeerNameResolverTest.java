@@ -0,0 +1,92 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.net;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PeerNameResolverTest {
+
+  private final Queue<Runnable> tasks = new ArrayDeque<>();
+  private final AtomicInteger lookups = new AtomicInteger();
+  private final AtomicLong nanoTime = new AtomicLong();
+
+  private InetAddress address;
+  private PeerNameResolver resolver;
+
+  @BeforeEach
+  void setUp() throws UnknownHostException {
+    address = InetAddress.getByAddress(new byte[] {10, 0, 0, 1});
+    resolver =
+        new PeerNameResolver(
+            tasks::add,
+            unused -> "host" + lookups.incrementAndGet(),
+            nanoTime::get,
+            /* maxPendingLookups= */ 2);
+  }
+
+  @Test
+  void returnsIpUntilResolved() {
+    assertThat(resolver.getHostName(address, "10.0.0.1")).isEqualTo("10.0.0.1");
+    // the lookup is scheduled only once
+    assertThat(resolver.getHostName(address, "10.0.0.1")).isEqualTo("10.0.0.1");
+    assertThat(tasks).hasSize(1);
+    assertThat(lookups).hasValue(0);
+
+    runTasks();
+
+    assertThat(resolver.getHostName(address, "10.0.0.1")).isEqualTo("host1");
+    assertThat(tasks).isEmpty();
+  }
+
+  @Test
+  void refreshesExpiredNames() {
+    resolver.getHostName(address, "10.0.0.1");
+    runTasks();
+
+    nanoTime.addAndGet(TimeUnit.MINUTES.toNanos(10));
+
+    // the stale name is still used while it is being refreshed
+    assertThat(resolver.getHostName(address, "10.0.0.1")).isEqualTo("host1");
+    runTasks();
+    assertThat(resolver.getHostName(address, "10.0.0.1")).isEqualTo("host2");
+  }
+
+  @Test
+  void limitsPendingLookups() throws UnknownHostException {
+    for (int i = 1; i <= 5; i++) {
+      InetAddress other = InetAddress.getByAddress(new byte[] {10, 0, 1, (byte) i});
+      resolver.getHostName(other, other.getHostAddress());
+    }
+    assertThat(tasks).hasSize(2);
+  }
+
+  @Test
+  void resolvesLoopbackRightAway() throws UnknownHostException {
+    InetAddress loopback = InetAddress.getByAddress(new byte[] {127, 0, 0, 1});
+
+    assertThat(resolver.getHostName(loopback, "127.0.0.1")).isEqualTo("host1");
+    assertThat(resolver.getHostName(loopback, "127.0.0.1")).isEqualTo("host1");
+    assertThat(tasks).isEmpty();
+    assertThat(lookups).hasValue(1);
+  }
+
+  private void runTasks() {
+    Runnable task;
+    while ((task = tasks.poll()) != null) {
+      task.run();
+    }
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.log;
+
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.SPAN_ID;
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_FLAGS;
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanId;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceId;
+import io.opentelemetry.api.trace.TraceState;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class SpanContextDataMapTest {
+
+  private static final SpanContext SPAN_CONTEXT =
+      SpanContext.create(
+          TraceId.fromLongs(1, 2),
+          SpanId.fromLong(3),
+          TraceFlags.getSampled(),
+          TraceState.getDefault());
+
+  @Test
+  void containsSpanContext() {
+    Map<String, String> expected = new HashMap<>();
+    expected.put(TRACE_ID, SPAN_CONTEXT.getTraceId());
+    expected.put(SPAN_ID, SPAN_CONTEXT.getSpanId());
+    expected.put(TRACE_FLAGS, "01");
+
+    Map<String, String> contextData = SpanContextDataMap.create(SPAN_CONTEXT);
+
+    assertThat(contextData).isEqualTo(expected);
+    assertThat(contextData.hashCode()).isEqualTo(expected.hashCode());
+    assertThat(contextData).containsOnlyKeys(TRACE_ID, SPAN_ID, TRACE_FLAGS);
+    assertThat(contextData.get(TRACE_ID)).isEqualTo(SPAN_CONTEXT.getTraceId());
+    assertThat(contextData.get("other")).isNull();
+
+    Map<String, String> forEachResult = new HashMap<>();
+    contextData.forEach(forEachResult::put);
+    assertThat(forEachResult).isEqualTo(expected);
+  }
+
+  @Test
+  void isImmutable() {
+    Map<String, String> contextData = SpanContextDataMap.create(SPAN_CONTEXT);
+
+    assertThatThrownBy(() -> contextData.put("key", "value"))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> contextData.remove(TRACE_ID))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+}
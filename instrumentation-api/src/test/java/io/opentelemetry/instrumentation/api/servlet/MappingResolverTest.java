@@ -0,0 +1,70 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.servlet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+class MappingResolverTest {
+
+  private static final MappingResolver RESOLVER =
+      MappingResolver.build(
+          Arrays.asList(
+              "", "/exact", "/foo/*", "/foo/bar/*", "*.do", "*.tar.gz", "*.gz", "*.jsp"));
+
+  @Test
+  void exactMatch() {
+    assertThat(RESOLVER.resolve("/exact", null)).isEqualTo("/exact");
+    assertThat(RESOLVER.resolve("/exact/", null)).isEqualTo("/exact");
+    assertThat(RESOLVER.resolve("/ex", "act")).isEqualTo("/exact");
+    assertThat(RESOLVER.resolve("/", null)).isEqualTo("/");
+  }
+
+  @Test
+  void longestPrefixMatch() {
+    assertThat(RESOLVER.resolve("/foo", null)).isEqualTo("/foo/*");
+    assertThat(RESOLVER.resolve("/foo", "/baz")).isEqualTo("/foo/*");
+    assertThat(RESOLVER.resolve("/foo", "/bar")).isEqualTo("/foo/bar/*");
+    assertThat(RESOLVER.resolve("/foo", "/bar/baz/")).isEqualTo("/foo/bar/*");
+    assertThat(RESOLVER.resolve("/foo", "/barbaz")).isEqualTo("/foo/*");
+    // prefix mappings take precedence over suffix mappings
+    assertThat(RESOLVER.resolve("/foo", "/index.do")).isEqualTo("/foo/*");
+  }
+
+  @Test
+  void longestSuffixMatch() {
+    assertThat(RESOLVER.resolve("/index.do", null)).isEqualTo("/*.do");
+    assertThat(RESOLVER.resolve("/app", "/index.do")).isEqualTo("/*.do");
+    assertThat(RESOLVER.resolve("/archive.tar.gz", null)).isEqualTo("/*.tar.gz");
+    assertThat(RESOLVER.resolve("/archive.gz", null)).isEqualTo("/*.gz");
+    assertThat(RESOLVER.resolve("/foodo", null)).isNull();
+  }
+
+  @Test
+  void jspReturnsServletPath() {
+    assertThat(RESOLVER.resolve("/page.jsp", null)).isEqualTo("/page.jsp");
+  }
+
+  @Test
+  void defaultMapping() {
+    MappingResolver resolver = MappingResolver.build(Arrays.asList("/", "/api/*"));
+    assertThat(resolver.resolve("/", null)).isEqualTo("/");
+    assertThat(resolver.resolve("/other", null)).isEqualTo("/*");
+    assertThat(resolver.resolve("/api", "/users")).isEqualTo("/api/*");
+
+    assertThat(MappingResolver.build(Collections.emptyList()).resolve("/any", null))
+        .isEqualTo("/*");
+  }
+
+  @Test
+  void noMatch() {
+    assertThat(RESOLVER.resolve("/other", null)).isNull();
+    assertThat(RESOLVER.resolve(null, "/foo")).isNull();
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.servlet;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.tracer.ServerSpan;
+import io.opentelemetry.sdk.testing.junit5.OpenTelemetryExtension;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class ServerSpanNamingTest {
+
+  @RegisterExtension
+  static final OpenTelemetryExtension otelTesting = OpenTelemetryExtension.create();
+
+  @Test
+  void eagerNaming() {
+    AtomicInteger calls = new AtomicInteger();
+    Context context = startServerSpan(false);
+
+    ServerSpanNaming.updateServerSpanName(
+        context, ServerSpanNaming.Source.SERVLET, (ctx, name) -> named(calls, name), "servlet");
+    ServerSpanNaming.updateServerSpanName(
+        context,
+        ServerSpanNaming.Source.CONTROLLER,
+        (ctx, name) -> named(calls, name),
+        "controller");
+    assertThat(calls).hasValue(2);
+
+    endServerSpan(context);
+
+    assertThat(calls).hasValue(2);
+    assertThat(otelTesting.getSpans())
+        .singleElement()
+        .satisfies(span -> assertThat(span).hasName("controller"));
+  }
+
+  @Test
+  void deferredNaming() {
+    AtomicInteger calls = new AtomicInteger();
+    Context context = startServerSpan(true);
+
+    ServerSpanNaming.updateServerSpanName(
+        context, ServerSpanNaming.Source.SERVLET, (ctx, name) -> named(calls, name), "servlet");
+    ServerSpanNaming.updateServerSpanName(
+        context,
+        ServerSpanNaming.Source.CONTROLLER,
+        (ctx, name) -> named(calls, name),
+        "controller");
+    // lower priority source is ignored, just like in the eager mode
+    ServerSpanNaming.updateServerSpanName(
+        context, ServerSpanNaming.Source.SERVLET, (ctx, name) -> named(calls, name), "ignored");
+    assertThat(calls).hasValue(0);
+
+    endServerSpan(context);
+
+    // only the highest priority name is computed
+    assertThat(calls).hasValue(1);
+    assertThat(otelTesting.getSpans())
+        .singleElement()
+        .satisfies(span -> assertThat(span).hasName("controller"));
+  }
+
+  @Test
+  void deferredNaming_fallsBackToLowerPriorityName() {
+    AtomicInteger calls = new AtomicInteger();
+    Context context = startServerSpan(true);
+
+    ServerSpanNaming.updateServerSpanName(
+        context, ServerSpanNaming.Source.SERVLET, (ctx, name) -> named(calls, name), "servlet");
+    ServerSpanNaming.updateServerSpanName(
+        context,
+        ServerSpanNaming.Source.CONTROLLER,
+        (ctx, name) -> named(calls, name),
+        (String) null);
+
+    endServerSpan(context);
+
+    assertThat(calls).hasValue(2);
+    assertThat(otelTesting.getSpans())
+        .singleElement()
+        .satisfies(span -> assertThat(span).hasName("servlet"));
+  }
+
+  @Test
+  void deferredNaming_eagerUpdate() {
+    AtomicInteger calls = new AtomicInteger();
+    Context context = startServerSpan(true);
+
+    ServerSpanNaming.updateServerSpanName(
+        context, ServerSpanNaming.Source.SERVLET, (ctx, name) -> named(calls, name), "servlet");
+    ServerSpanNaming.updateServerSpanNameEagerly(
+        context,
+        ServerSpanNaming.Source.CONTROLLER,
+        (ctx, name) -> named(calls, name),
+        "controller");
+    assertThat(calls).hasValue(1);
+
+    endServerSpan(context);
+
+    // the deferred lower priority name is never computed
+    assertThat(calls).hasValue(1);
+    assertThat(otelTesting.getSpans())
+        .singleElement()
+        .satisfies(span -> assertThat(span).hasName("controller"));
+  }
+
+  @Test
+  void deferredNaming_resolvedBeforeEnd() {
+    AtomicInteger calls = new AtomicInteger();
+    Context context = startServerSpan(true);
+
+    ServerSpanNaming.updateServerSpanName(
+        context,
+        ServerSpanNaming.Source.CONTROLLER,
+        (ctx, name) -> named(calls, name),
+        "controller");
+    // e.g. when the outermost servlet returns
+    ServerSpanNaming.resolveDeferredName(context);
+    assertThat(calls).hasValue(1);
+
+    // e.g. an error dispatch
+    ServerSpanNaming.updateServerSpanName(
+        context, ServerSpanNaming.Source.CONTROLLER, (ctx, name) -> named(calls, name), "error");
+
+    endServerSpan(context);
+
+    assertThat(calls).hasValue(1);
+    assertThat(otelTesting.getSpans())
+        .singleElement()
+        .satisfies(span -> assertThat(span).hasName("controller"));
+  }
+
+  private static String named(AtomicInteger calls, String name) {
+    calls.incrementAndGet();
+    return name;
+  }
+
+  private static Context startServerSpan(boolean deferred) {
+    Span span =
+        otelTesting
+            .getOpenTelemetry()
+            .getTracer("test")
+            .spanBuilder("initial")
+            .setSpanKind(SpanKind.SERVER)
+            .startSpan();
+    Context context = ServerSpan.with(Context.root().with(span), span);
+    return ServerSpanNaming.init(context, ServerSpanNaming.Source.CONTAINER, deferred);
+  }
+
+  private static void endServerSpan(Context context) {
+    ServerSpanNaming.resolveDeferredName(context);
+    Span.fromContext(context).end();
+  }
+}
@@ -1,5 +1,6 @@
 plugins {
   id("otel.javaagent-instrumentation")
+  id("org.unbroken-dome.test-sets")
 }
 
 muzzle {
@@ -8,7 +9,25 @@ muzzle {
   }
 }
 
-tasks.withType<Test>().configureEach {
-  jvmArgs("-Dotel.instrumentation.executors.include=ExecutorInstrumentationTest\$CustomThreadPoolExecutor")
-  jvmArgs("-Djava.awt.headless=true")
+testSets {
+  // virtual threads require JDK 21, the tests call the virtual thread API dynamically so that they
+  // can still be compiled for Java 8
+  create("java21Test")
+}
+
+tasks {
+  // only runs when the tests are executed on JDK 21+, e.g. with -PtestJavaVersion=21
+  val java21Test by existing(Test::class) {
+    val testJavaVersion = gradle.startParameter.projectProperties.get("testJavaVersion")?.let(JavaVersion::toVersion) ?: JavaVersion.current()
+    isEnabled = isEnabled && testJavaVersion.isCompatibleWith(JavaVersion.toVersion(21))
+  }
+
+  named("check") {
+    dependsOn(java21Test)
+  }
+
+  withType<Test>().configureEach {
+    jvmArgs("-Dotel.instrumentation.executors.include=ExecutorInstrumentationTest\$CustomThreadPoolExecutor")
+    jvmArgs("-Djava.awt.headless=true")
+  }
 }
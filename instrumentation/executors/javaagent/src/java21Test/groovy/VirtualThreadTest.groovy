@@ -0,0 +1,116 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+import io.opentelemetry.api.trace.SpanKind
+import io.opentelemetry.instrumentation.test.AgentInstrumentationSpecification
+import spock.lang.Requires
+
+import java.util.concurrent.CountDownLatch
+
+import static io.opentelemetry.instrumentation.test.asserts.InMemoryExporterAssert.orderByRootSpanName
+import static io.opentelemetry.instrumentation.test.utils.TraceUtils.runInternalSpan
+
+// the virtual thread API is resolved at runtime, this source set is compiled for Java 8
+@Requires({ javaVersion >= 21 })
+class VirtualThreadTest extends AgentInstrumentationSpecification {
+
+  def "context is propagated to a virtual thread"() {
+    when:
+    Thread thread = runWithSpan("parent") {
+      Thread.ofVirtual().start {
+        runInternalSpan("child")
+      }
+    }
+    thread.join()
+
+    then:
+    assertTraces(1) {
+      trace(0, 2) {
+        span(0) {
+          name "parent"
+          kind SpanKind.INTERNAL
+          hasNoParent()
+        }
+        span(1) {
+          name "child"
+          kind SpanKind.INTERNAL
+          childOf span(0)
+        }
+      }
+    }
+  }
+
+  def "context survives park and unpark of a virtual thread"() {
+    setup:
+    def parked = new CountDownLatch(1)
+    def unpark = new CountDownLatch(1)
+
+    when:
+    Thread thread = runWithSpan("parent") {
+      Thread.ofVirtual().start {
+        runInternalSpan("before park")
+        parked.countDown()
+        // unmounts the virtual thread from its carrier thread until it is unparked
+        unpark.await()
+        runInternalSpan("after unpark")
+      }
+    }
+    parked.await()
+    // the virtual thread is unparked while a different context is current
+    runWithSpan("other") {
+      unpark.countDown()
+    }
+    thread.join()
+
+    then:
+    assertTraces(2) {
+      traces.sort(orderByRootSpanName("parent", "other"))
+      sortSpansByStartTime()
+      trace(0, 3) {
+        span(0) {
+          name "parent"
+          kind SpanKind.INTERNAL
+          hasNoParent()
+        }
+        span(1) {
+          name "before park"
+          kind SpanKind.INTERNAL
+          childOf span(0)
+        }
+        span(2) {
+          name "after unpark"
+          kind SpanKind.INTERNAL
+          childOf span(0)
+        }
+      }
+      trace(1, 1) {
+        span(0) {
+          name "other"
+          kind SpanKind.INTERNAL
+          hasNoParent()
+        }
+      }
+    }
+  }
+
+  def "no context is propagated to a virtual thread started without a span"() {
+    when:
+    Thread thread = Thread.ofVirtual().start {
+      runInternalSpan("root")
+    }
+    thread.join()
+
+    then:
+    assertTraces(1) {
+      trace(0, 1) {
+        span(0) {
+          name "root"
+          kind SpanKind.INTERNAL
+          hasNoParent()
+        }
+      }
+    }
+  }
+}
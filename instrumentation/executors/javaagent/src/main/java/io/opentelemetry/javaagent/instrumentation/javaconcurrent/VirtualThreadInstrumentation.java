@@ -0,0 +1,93 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.javaconcurrent;
+
+import static net.bytebuddy.matcher.ElementMatchers.isPrivate;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.takesArgument;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.instrumentation.api.field.VirtualField;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
+import io.opentelemetry.javaagent.instrumentation.api.Java8BytecodeBridge;
+import io.opentelemetry.javaagent.instrumentation.api.concurrent.ExecutorAdviceHelper;
+import io.opentelemetry.javaagent.instrumentation.api.concurrent.PropagatedContext;
+import io.opentelemetry.javaagent.instrumentation.api.concurrent.TaskAdviceHelper;
+import net.bytebuddy.asm.Advice;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+
+/**
+ * Propagates context to virtual threads (JDK 21+). The context is captured when the virtual thread
+ * is started and made current for the whole run of its task; since thread locals belong to the
+ * virtual thread and not to its carrier thread, the context survives parking and unparking. The
+ * continuation tasks that the virtual thread submits to its carrier thread scheduler are excluded
+ * from executor instrumentation (see {@code GlobalIgnoredTypesConfigurer}), so that the carrier
+ * {@code ForkJoinPool} never wraps or propagates context on its own.
+ */
+public class VirtualThreadInstrumentation implements TypeInstrumentation {
+
+  @Override
+  public ElementMatcher<TypeDescription> typeMatcher() {
+    return named("java.lang.VirtualThread");
+  }
+
+  @Override
+  public void transform(TypeTransformer transformer) {
+    // start() delegates to start(ThreadContainer), which is also called directly by structured
+    // concurrency
+    transformer.applyAdviceToMethod(
+        named("start").and(takesArguments(1)),
+        VirtualThreadInstrumentation.class.getName() + "$StartAdvice");
+    transformer.applyAdviceToMethod(
+        named("run").and(takesArguments(1)).and(takesArgument(0, Runnable.class)).and(isPrivate()),
+        VirtualThreadInstrumentation.class.getName() + "$RunAdvice");
+  }
+
+  @SuppressWarnings("unused")
+  public static class StartAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static PropagatedContext enter(@Advice.This Thread thread) {
+      Context context = Java8BytecodeBridge.currentContext();
+      // virtual threads are excluded from task instrumentation, so shouldPropagateContext() can't
+      // be used here
+      if (context == Java8BytecodeBridge.rootContext()) {
+        return null;
+      }
+      VirtualField<Thread, PropagatedContext> virtualField =
+          VirtualField.find(Thread.class, PropagatedContext.class);
+      return ExecutorAdviceHelper.attachContextToTask(context, virtualField, thread);
+    }
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+    public static void exit(
+        @Advice.Enter PropagatedContext propagatedContext, @Advice.Thrown Throwable throwable) {
+      ExecutorAdviceHelper.cleanUpAfterSubmit(propagatedContext, throwable);
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class RunAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static Scope enter(@Advice.This Thread thread) {
+      VirtualField<Thread, PropagatedContext> virtualField =
+          VirtualField.find(Thread.class, PropagatedContext.class);
+      return TaskAdviceHelper.makePropagatedContextCurrent(virtualField, thread);
+    }
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+    public static void exit(@Advice.Enter Scope scope) {
+      if (scope != null) {
+        scope.close();
+      }
+    }
+  }
+}
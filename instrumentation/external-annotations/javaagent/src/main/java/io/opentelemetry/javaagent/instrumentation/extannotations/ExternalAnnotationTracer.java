@@ -8,7 +8,6 @@ package io.opentelemetry.javaagent.instrumentation.extannotations;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.tracer.BaseTracer;
 import io.opentelemetry.instrumentation.api.tracer.SpanNames;
-import java.lang.reflect.Method;
 
 public class ExternalAnnotationTracer extends BaseTracer {
   private static final ExternalAnnotationTracer TRACER = new ExternalAnnotationTracer();
@@ -22,7 +21,7 @@ public class ExternalAnnotationTracer extends BaseTracer {
     return "io.opentelemetry.external-annotations";
   }
 
-  public Context startSpan(Method method) {
-    return startSpan(SpanNames.fromMethod(method));
+  public Context startSpan(Class<?> declaringClass, String methodName) {
+    return startSpan(SpanNames.fromMethod(declaringClass, methodName));
   }
 }
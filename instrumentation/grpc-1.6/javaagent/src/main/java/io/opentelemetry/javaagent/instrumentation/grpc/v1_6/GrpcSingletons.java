@@ -29,12 +29,15 @@ public final class GrpcSingletons {
   static {
     boolean experimentalSpanAttributes =
         Config.get().getBoolean("otel.instrumentation.grpc.experimental-span-attributes", false);
+    int maxMessageEvents =
+        Config.get().getInt("otel.instrumentation.grpc.experimental-max-message-events", -1);
     PeerServiceAttributesExtractor<GrpcRequest, Status> peerServiceAttributesExtractor =
         PeerServiceAttributesExtractor.create(new GrpcNetAttributesExtractor());
 
     GrpcTracing tracing =
         GrpcTracing.newBuilder(GlobalOpenTelemetry.get())
             .setCaptureExperimentalSpanAttributes(experimentalSpanAttributes)
+            .setMaxMessageEvents(maxMessageEvents)
             .addAttributeExtractor(peerServiceAttributesExtractor)
             .build();
 
@@ -12,5 +12,9 @@ final class GrpcHelper {
   static final AttributeKey<String> MESSAGE_TYPE = AttributeKey.stringKey("message.type");
   static final AttributeKey<Long> MESSAGE_ID = AttributeKey.longKey("message.id");
 
+  static final AttributeKey<Long> MESSAGES_SENT = AttributeKey.longKey("rpc.grpc.messages_sent");
+  static final AttributeKey<Long> MESSAGES_RECEIVED =
+      AttributeKey.longKey("rpc.grpc.messages_received");
+
   private GrpcHelper() {}
 }
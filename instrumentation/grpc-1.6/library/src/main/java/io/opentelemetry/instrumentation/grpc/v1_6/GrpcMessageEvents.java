@@ -0,0 +1,114 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.grpc.v1_6;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Counts the messages of a single call and records them as {@code message} span events. With a
+ * non-negative {@code maxEvents} only the first and the last {@code maxEvents} messages are
+ * recorded as events: the first ones are added to the span right away, the last ones are kept in a
+ * ring buffer and added when the call ends, so that a long-lived stream holds a bounded number of
+ * events.
+ */
+final class GrpcMessageEvents {
+
+  private static final AtomicLongFieldUpdater<GrpcMessageEvents> MESSAGE_ID_UPDATER =
+      AtomicLongFieldUpdater.newUpdater(GrpcMessageEvents.class, "messageId");
+  private static final AtomicLongFieldUpdater<GrpcMessageEvents> SENT_UPDATER =
+      AtomicLongFieldUpdater.newUpdater(GrpcMessageEvents.class, "sentCount");
+  private static final AtomicLongFieldUpdater<GrpcMessageEvents> RECEIVED_UPDATER =
+      AtomicLongFieldUpdater.newUpdater(GrpcMessageEvents.class, "receivedCount");
+
+  private final int maxEvents;
+
+  // Used by the updaters
+  @SuppressWarnings("UnusedVariable")
+  private volatile long messageId;
+
+  private volatile long sentCount;
+  private volatile long receivedCount;
+
+  // the last maxEvents messages, allocated once the first maxEvents messages have been recorded
+  private long[] lastIds;
+  private long[] lastTimestamps;
+  private boolean[] lastSent;
+  private int lastCount;
+  private int lastNext;
+
+  GrpcMessageEvents(int maxEvents) {
+    this.maxEvents = maxEvents;
+  }
+
+  void sent(Span span) {
+    SENT_UPDATER.incrementAndGet(this);
+    record(span, true);
+  }
+
+  void received(Span span) {
+    RECEIVED_UPDATER.incrementAndGet(this);
+    record(span, false);
+  }
+
+  long sentCount() {
+    return sentCount;
+  }
+
+  long receivedCount() {
+    return receivedCount;
+  }
+
+  /** Adds the buffered events of the last messages to the span; call before ending the span. */
+  void end(Span span) {
+    if (maxEvents <= 0) {
+      return;
+    }
+    synchronized (this) {
+      int first = (lastNext - lastCount + maxEvents) % maxEvents;
+      for (int i = 0; i < lastCount; i++) {
+        int index = (first + i) % maxEvents;
+        span.addEvent(
+            "message",
+            attributes(lastSent[index], lastIds[index]),
+            lastTimestamps[index],
+            TimeUnit.MILLISECONDS);
+      }
+      lastCount = 0;
+    }
+  }
+
+  private void record(Span span, boolean sent) {
+    long id = MESSAGE_ID_UPDATER.incrementAndGet(this);
+    if (maxEvents < 0 || id <= maxEvents) {
+      span.addEvent("message", attributes(sent, id));
+      return;
+    }
+    if (maxEvents == 0 || !span.isRecording()) {
+      return;
+    }
+    long timestamp = System.currentTimeMillis();
+    synchronized (this) {
+      if (lastIds == null) {
+        lastIds = new long[maxEvents];
+        lastTimestamps = new long[maxEvents];
+        lastSent = new boolean[maxEvents];
+      }
+      lastIds[lastNext] = id;
+      lastTimestamps[lastNext] = timestamp;
+      lastSent[lastNext] = sent;
+      lastNext = (lastNext + 1) % maxEvents;
+      lastCount = Math.min(lastCount + 1, maxEvents);
+    }
+  }
+
+  private static Attributes attributes(boolean sent, long id) {
+    return Attributes.of(
+        GrpcHelper.MESSAGE_TYPE, sent ? "SENT" : "RECEIVED", GrpcHelper.MESSAGE_ID, id);
+  }
+}
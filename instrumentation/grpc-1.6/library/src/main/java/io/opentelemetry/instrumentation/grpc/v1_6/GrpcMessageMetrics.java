@@ -0,0 +1,99 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.grpc.v1_6;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.instrumentation.api.instrumenter.RequestListener;
+import io.opentelemetry.instrumentation.api.instrumenter.RequestMetrics;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+
+/**
+ * {@link RequestListener} which records the number of messages per call, as counted by {@link
+ * GrpcMessageAttributesExtractor}, in the {@code rpc.*.requests_per_rpc} and {@code
+ * rpc.*.responses_per_rpc} histograms.
+ */
+final class GrpcMessageMetrics implements RequestListener {
+
+  private static final ContextKey<Attributes> GRPC_MESSAGE_METRICS_ATTRIBUTES =
+      ContextKey.named("grpc-message-metrics-attributes");
+
+  static RequestMetrics server() {
+    // a server receives requests and sends responses
+    return meter ->
+        new GrpcMessageMetrics(
+            meter, "rpc.server", GrpcHelper.MESSAGES_RECEIVED, GrpcHelper.MESSAGES_SENT);
+  }
+
+  static RequestMetrics client() {
+    return meter ->
+        new GrpcMessageMetrics(
+            meter, "rpc.client", GrpcHelper.MESSAGES_SENT, GrpcHelper.MESSAGES_RECEIVED);
+  }
+
+  private final LongHistogram requestsPerRpc;
+  private final LongHistogram responsesPerRpc;
+  private final AttributeKey<Long> requestsKey;
+  private final AttributeKey<Long> responsesKey;
+
+  private GrpcMessageMetrics(
+      Meter meter, String prefix, AttributeKey<Long> requestsKey, AttributeKey<Long> responsesKey) {
+    requestsPerRpc =
+        meter
+            .histogramBuilder(prefix + ".requests_per_rpc")
+            .ofLongs()
+            .setUnit("{messages}")
+            .setDescription("The number of request messages per RPC")
+            .build();
+    responsesPerRpc =
+        meter
+            .histogramBuilder(prefix + ".responses_per_rpc")
+            .ofLongs()
+            .setUnit("{messages}")
+            .setDescription("The number of response messages per RPC")
+            .build();
+    this.requestsKey = requestsKey;
+    this.responsesKey = responsesKey;
+  }
+
+  @Override
+  public Context start(Context context, Attributes startAttributes, long startNanos) {
+    AttributesBuilder attributes = Attributes.builder();
+    putIfPresent(attributes, startAttributes, SemanticAttributes.RPC_SYSTEM);
+    putIfPresent(attributes, startAttributes, SemanticAttributes.RPC_SERVICE);
+    putIfPresent(attributes, startAttributes, SemanticAttributes.RPC_METHOD);
+    return context.with(GRPC_MESSAGE_METRICS_ATTRIBUTES, attributes.build());
+  }
+
+  @Override
+  public void end(Context context, Attributes endAttributes, long endNanos) {
+    Attributes attributes = context.get(GRPC_MESSAGE_METRICS_ATTRIBUTES);
+    if (attributes == null) {
+      return;
+    }
+    Long requests = endAttributes.get(requestsKey);
+    if (requests != null) {
+      requestsPerRpc.record(requests, attributes);
+    }
+    Long responses = endAttributes.get(responsesKey);
+    if (responses != null) {
+      responsesPerRpc.record(responses, attributes);
+    }
+  }
+
+  private static <T> void putIfPresent(
+      AttributesBuilder builder, Attributes attributes, AttributeKey<T> key) {
+    T value = attributes.get(key);
+    if (value != null) {
+      builder.put(key, value);
+    }
+  }
+}
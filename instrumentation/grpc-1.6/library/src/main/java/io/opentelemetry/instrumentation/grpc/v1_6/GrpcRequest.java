@@ -17,13 +17,17 @@ public final class GrpcRequest {
 
   @Nullable private volatile SocketAddress remoteAddress;
 
+  private final GrpcMessageEvents messageEvents;
+
   GrpcRequest(
       MethodDescriptor<?, ?> method,
       @Nullable Metadata metadata,
-      @Nullable SocketAddress remoteAddress) {
+      @Nullable SocketAddress remoteAddress,
+      int maxMessageEvents) {
     this.method = method;
     this.metadata = metadata;
     this.remoteAddress = remoteAddress;
+    this.messageEvents = new GrpcMessageEvents(maxMessageEvents);
   }
 
   public MethodDescriptor<?, ?> getMethod() {
@@ -43,4 +47,8 @@ public final class GrpcRequest {
   void setRemoteAddress(SocketAddress remoteAddress) {
     this.remoteAddress = remoteAddress;
   }
+
+  GrpcMessageEvents getMessageEvents() {
+    return messageEvents;
+  }
 }
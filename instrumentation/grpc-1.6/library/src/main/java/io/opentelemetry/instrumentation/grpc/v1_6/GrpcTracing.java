@@ -29,16 +29,19 @@ public final class GrpcTracing {
   private final Instrumenter<GrpcRequest, Status> clientInstrumenter;
   private final ContextPropagators propagators;
   private final boolean captureExperimentalSpanAttributes;
+  private final int maxMessageEvents;
 
   GrpcTracing(
       Instrumenter<GrpcRequest, Status> serverInstrumenter,
       Instrumenter<GrpcRequest, Status> clientInstrumenter,
       ContextPropagators propagators,
-      boolean captureExperimentalSpanAttributes) {
+      boolean captureExperimentalSpanAttributes,
+      int maxMessageEvents) {
     this.serverInstrumenter = serverInstrumenter;
     this.clientInstrumenter = clientInstrumenter;
     this.propagators = propagators;
     this.captureExperimentalSpanAttributes = captureExperimentalSpanAttributes;
+    this.maxMessageEvents = maxMessageEvents;
   }
 
   /**
@@ -46,7 +49,7 @@ public final class GrpcTracing {
    * io.grpc.ManagedChannelBuilder#intercept(ClientInterceptor...)}.
    */
   public ClientInterceptor newClientInterceptor() {
-    return new TracingClientInterceptor(clientInstrumenter, propagators);
+    return new TracingClientInterceptor(clientInstrumenter, propagators, maxMessageEvents);
   }
 
   /**
@@ -54,6 +57,7 @@ public final class GrpcTracing {
    * io.grpc.ServerBuilder#intercept(ServerInterceptor)}.
    */
   public ServerInterceptor newServerInterceptor() {
-    return new TracingServerInterceptor(serverInstrumenter, captureExperimentalSpanAttributes);
+    return new TracingServerInterceptor(
+        serverInstrumenter, captureExperimentalSpanAttributes, maxMessageEvents);
   }
 }
@@ -26,6 +26,7 @@ public final class GrpcTracingBuilder {
       additionalExtractors = new ArrayList<>();
 
   private boolean captureExperimentalSpanAttributes;
+  private int maxMessageEvents = -1;
 
   GrpcTracingBuilder(OpenTelemetry openTelemetry) {
     this.openTelemetry = openTelemetry;
@@ -52,8 +53,36 @@ public final class GrpcTracingBuilder {
     return this;
   }
 
+  /**
+   * Sets the maximum number of {@code message} events recorded at the start and at the end of a
+   * call; the events of all messages in between are dropped. When set, the number of sent and
+   * received messages is recorded as span attributes and metrics instead. By default all messages
+   * are recorded as events, which may hold a lot of memory for long-lived streaming calls.
+   */
+  public GrpcTracingBuilder setMaxMessageEvents(int maxMessageEvents) {
+    this.maxMessageEvents = maxMessageEvents;
+    return this;
+  }
+
   /** Returns a new {@link GrpcTracing} with the settings of this {@link GrpcTracingBuilder}. */
   public GrpcTracing build() {
+    InstrumenterBuilder<GrpcRequest, Status> serverInstrumenterBuilder = newInstrumenterBuilder();
+    InstrumenterBuilder<GrpcRequest, Status> clientInstrumenterBuilder = newInstrumenterBuilder();
+    if (maxMessageEvents >= 0) {
+      serverInstrumenterBuilder.addRequestMetrics(GrpcMessageMetrics.server());
+      clientInstrumenterBuilder.addRequestMetrics(GrpcMessageMetrics.client());
+    }
+    return new GrpcTracing(
+        serverInstrumenterBuilder.newServerInstrumenter(GrpcExtractAdapter.GETTER),
+        // gRPC client interceptors require two phases, one to set up request and one to execute.
+        // So we go ahead and inject manually in this instrumentation.
+        clientInstrumenterBuilder.newInstrumenter(SpanKindExtractor.alwaysClient()),
+        openTelemetry.getPropagators(),
+        captureExperimentalSpanAttributes,
+        maxMessageEvents);
+  }
+
+  private InstrumenterBuilder<GrpcRequest, Status> newInstrumenterBuilder() {
     InstrumenterBuilder<GrpcRequest, Status> instrumenterBuilder =
         Instrumenter.newBuilder(openTelemetry, INSTRUMENTATION_NAME, new GrpcSpanNameExtractor());
     instrumenterBuilder
@@ -61,14 +90,10 @@ public final class GrpcTracingBuilder {
         .addAttributesExtractors(
             new GrpcNetAttributesExtractor(),
             new GrpcRpcAttributesExtractor(),
-            new GrpcAttributesExtractor())
-        .addAttributesExtractors(additionalExtractors);
-    return new GrpcTracing(
-        instrumenterBuilder.newServerInstrumenter(GrpcExtractAdapter.GETTER),
-        // gRPC client interceptors require two phases, one to set up request and one to execute.
-        // So we go ahead and inject manually in this instrumentation.
-        instrumenterBuilder.newInstrumenter(SpanKindExtractor.alwaysClient()),
-        openTelemetry.getPropagators(),
-        captureExperimentalSpanAttributes);
+            new GrpcAttributesExtractor());
+    if (maxMessageEvents >= 0) {
+      instrumenterBuilder.addAttributesExtractor(new GrpcMessageAttributesExtractor());
+    }
+    return instrumenterBuilder.addAttributesExtractors(additionalExtractors);
   }
 }
@@ -17,34 +17,33 @@ import io.grpc.Grpc;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
 import io.grpc.Status;
-import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.context.propagation.ContextPropagators;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import java.net.SocketAddress;
-import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 final class TracingClientInterceptor implements ClientInterceptor {
 
-  @SuppressWarnings("rawtypes")
-  private static final AtomicLongFieldUpdater<TracingClientCall> MESSAGE_ID_UPDATER =
-      AtomicLongFieldUpdater.newUpdater(TracingClientCall.class, "messageId");
-
   private final Instrumenter<GrpcRequest, Status> instrumenter;
   private final ContextPropagators propagators;
+  private final int maxMessageEvents;
 
   TracingClientInterceptor(
-      Instrumenter<GrpcRequest, Status> instrumenter, ContextPropagators propagators) {
+      Instrumenter<GrpcRequest, Status> instrumenter,
+      ContextPropagators propagators,
+      int maxMessageEvents) {
     this.instrumenter = instrumenter;
     this.propagators = propagators;
+    this.maxMessageEvents = maxMessageEvents;
   }
 
   @Override
   public <REQUEST, RESPONSE> ClientCall<REQUEST, RESPONSE> interceptCall(
       MethodDescriptor<REQUEST, RESPONSE> method, CallOptions callOptions, Channel next) {
-    GrpcRequest request = new GrpcRequest(method, null, null);
+    GrpcRequest request = new GrpcRequest(method, null, null, maxMessageEvents);
     Context parentContext = Context.current();
     Context context = instrumenter.start(parentContext, request);
     final ClientCall<REQUEST, RESPONSE> result;
@@ -53,7 +52,7 @@ final class TracingClientInterceptor implements ClientInterceptor {
         // call other interceptors
         result = next.newCall(method, callOptions);
       } catch (Throwable e) {
-        instrumenter.end(context, request, null, e);
+        end(context, request, null, e);
         throw e;
       }
     }
@@ -64,6 +63,15 @@ final class TracingClientInterceptor implements ClientInterceptor {
     return new TracingClientCall<>(result, parentContext, context, request);
   }
 
+  private void end(
+      Context context,
+      GrpcRequest request,
+      @Nullable Status status,
+      @Nullable Throwable error) {
+    request.getMessageEvents().end(Span.fromContext(context));
+    instrumenter.end(context, request, status, error);
+  }
+
   final class TracingClientCall<REQUEST, RESPONSE>
       extends ForwardingClientCall.SimpleForwardingClientCall<REQUEST, RESPONSE> {
 
@@ -71,10 +79,6 @@ final class TracingClientInterceptor implements ClientInterceptor {
     private final Context context;
     private final GrpcRequest request;
 
-    // Used by MESSAGE_ID_UPDATER
-    @SuppressWarnings("UnusedVariable")
-    volatile long messageId;
-
     TracingClientCall(
         ClientCall<REQUEST, RESPONSE> delegate,
         Context parentContext,
@@ -94,7 +98,7 @@ final class TracingClientInterceptor implements ClientInterceptor {
             new TracingClientCallListener(responseListener, parentContext, context, request),
             headers);
       } catch (Throwable e) {
-        instrumenter.end(context, request, null, e);
+        end(context, request, null, e);
         throw e;
       }
     }
@@ -104,17 +108,10 @@ final class TracingClientInterceptor implements ClientInterceptor {
       try (Scope ignored = context.makeCurrent()) {
         super.sendMessage(message);
       } catch (Throwable e) {
-        instrumenter.end(context, request, null, e);
+        end(context, request, null, e);
         throw e;
       }
-      Span span = Span.fromContext(context);
-      Attributes attributes =
-          Attributes.of(
-              GrpcHelper.MESSAGE_TYPE,
-              "SENT",
-              GrpcHelper.MESSAGE_ID,
-              MESSAGE_ID_UPDATER.incrementAndGet(this));
-      span.addEvent("message", attributes);
+      request.getMessageEvents().sent(Span.fromContext(context));
     }
 
     final class TracingClientCallListener
@@ -137,14 +134,7 @@ final class TracingClientInterceptor implements ClientInterceptor {
 
       @Override
       public void onMessage(RESPONSE message) {
-        Span span = Span.fromContext(context);
-        Attributes attributes =
-            Attributes.of(
-                GrpcHelper.MESSAGE_TYPE,
-                "RECEIVED",
-                GrpcHelper.MESSAGE_ID,
-                MESSAGE_ID_UPDATER.incrementAndGet(TracingClientCall.this));
-        span.addEvent("message", attributes);
+        request.getMessageEvents().received(Span.fromContext(context));
         try (Scope ignored = context.makeCurrent()) {
           delegate().onMessage(message);
         }
@@ -152,7 +142,7 @@ final class TracingClientInterceptor implements ClientInterceptor {
 
       @Override
       public void onClose(Status status, Metadata trailers) {
-        instrumenter.end(context, request, status, status.getCause());
+        end(context, request, status, status.getCause());
         try (Scope ignored = parentContext.makeCurrent()) {
           delegate().onClose(status, trailers);
         }
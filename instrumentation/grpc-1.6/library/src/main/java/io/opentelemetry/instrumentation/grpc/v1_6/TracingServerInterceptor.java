@@ -14,26 +14,25 @@ import io.grpc.ServerCall;
 import io.grpc.ServerCallHandler;
 import io.grpc.ServerInterceptor;
 import io.grpc.Status;
-import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
-import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 final class TracingServerInterceptor implements ServerInterceptor {
 
-  @SuppressWarnings("rawtypes")
-  private static final AtomicLongFieldUpdater<TracingServerCall> MESSAGE_ID_UPDATER =
-      AtomicLongFieldUpdater.newUpdater(TracingServerCall.class, "messageId");
-
   private final Instrumenter<GrpcRequest, Status> instrumenter;
   private final boolean captureExperimentalSpanAttributes;
+  private final int maxMessageEvents;
 
   TracingServerInterceptor(
-      Instrumenter<GrpcRequest, Status> instrumenter, boolean captureExperimentalSpanAttributes) {
+      Instrumenter<GrpcRequest, Status> instrumenter,
+      boolean captureExperimentalSpanAttributes,
+      int maxMessageEvents) {
     this.instrumenter = instrumenter;
     this.captureExperimentalSpanAttributes = captureExperimentalSpanAttributes;
+    this.maxMessageEvents = maxMessageEvents;
   }
 
   @Override
@@ -45,26 +44,32 @@ final class TracingServerInterceptor implements ServerInterceptor {
         new GrpcRequest(
             call.getMethodDescriptor(),
             headers,
-            call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR));
+            call.getAttributes().get(Grpc.TRANSPORT_ATTR_REMOTE_ADDR),
+            maxMessageEvents);
     Context context = instrumenter.start(Context.current(), request);
 
     try (Scope ignored = context.makeCurrent()) {
       return new TracingServerCall<>(call, context, request).start(headers, next);
     } catch (Throwable e) {
-      instrumenter.end(context, request, null, e);
+      end(context, request, null, e);
       throw e;
     }
   }
 
+  private void end(
+      Context context,
+      GrpcRequest request,
+      @Nullable Status status,
+      @Nullable Throwable error) {
+    request.getMessageEvents().end(Span.fromContext(context));
+    instrumenter.end(context, request, status, error);
+  }
+
   final class TracingServerCall<REQUEST, RESPONSE>
       extends ForwardingServerCall.SimpleForwardingServerCall<REQUEST, RESPONSE> {
     private final Context context;
     private final GrpcRequest request;
 
-    // Used by MESSAGE_ID_UPDATER
-    @SuppressWarnings("UnusedVariable")
-    volatile long messageId;
-
     TracingServerCall(
         ServerCall<REQUEST, RESPONSE> delegate, Context context, GrpcRequest request) {
       super(delegate);
@@ -82,14 +87,7 @@ final class TracingServerInterceptor implements ServerInterceptor {
       try (Scope ignored = context.makeCurrent()) {
         super.sendMessage(message);
       }
-      Span span = Span.fromContext(context);
-      Attributes attributes =
-          Attributes.of(
-              GrpcHelper.MESSAGE_TYPE,
-              "SENT",
-              GrpcHelper.MESSAGE_ID,
-              MESSAGE_ID_UPDATER.incrementAndGet(this));
-      span.addEvent("message", attributes);
+      request.getMessageEvents().sent(Span.fromContext(context));
     }
 
     @Override
@@ -97,10 +95,10 @@ final class TracingServerInterceptor implements ServerInterceptor {
       try {
         delegate().close(status, trailers);
       } catch (Throwable e) {
-        instrumenter.end(context, request, status, e);
+        end(context, request, status, e);
         throw e;
       }
-      instrumenter.end(context, request, status, status.getCause());
+      end(context, request, status, status.getCause());
     }
 
     final class TracingServerCallListener
@@ -117,13 +115,7 @@ final class TracingServerInterceptor implements ServerInterceptor {
       @Override
       public void onMessage(REQUEST message) {
         // TODO(anuraaga): Restore
-        Attributes attributes =
-            Attributes.of(
-                GrpcHelper.MESSAGE_TYPE,
-                "RECEIVED",
-                GrpcHelper.MESSAGE_ID,
-                MESSAGE_ID_UPDATER.incrementAndGet(TracingServerCall.this));
-        Span.fromContext(context).addEvent("message", attributes);
+        request.getMessageEvents().received(Span.fromContext(context));
         delegate().onMessage(message);
       }
 
@@ -132,7 +124,7 @@ final class TracingServerInterceptor implements ServerInterceptor {
         try {
           delegate().onHalfClose();
         } catch (Throwable e) {
-          instrumenter.end(context, request, null, e);
+          end(context, request, null, e);
           throw e;
         }
       }
@@ -145,10 +137,10 @@ final class TracingServerInterceptor implements ServerInterceptor {
             Span.fromContext(context).setAttribute("grpc.canceled", true);
           }
         } catch (Throwable e) {
-          instrumenter.end(context, request, null, e);
+          end(context, request, null, e);
           throw e;
         }
-        instrumenter.end(context, request, null, null);
+        end(context, request, null, null);
       }
 
       @Override
@@ -156,7 +148,7 @@ final class TracingServerInterceptor implements ServerInterceptor {
         try {
           delegate().onComplete();
         } catch (Throwable e) {
-          instrumenter.end(context, request, null, e);
+          end(context, request, null, e);
           throw e;
         }
       }
@@ -166,7 +158,7 @@ final class TracingServerInterceptor implements ServerInterceptor {
         try {
           delegate().onReady();
         } catch (Throwable e) {
-          instrumenter.end(context, request, null, e);
+          end(context, request, null, e);
           throw e;
         }
       }
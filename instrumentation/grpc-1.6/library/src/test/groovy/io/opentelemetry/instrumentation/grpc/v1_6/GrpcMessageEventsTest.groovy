@@ -0,0 +1,80 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.grpc.v1_6
+
+import io.opentelemetry.api.common.Attributes
+import io.opentelemetry.api.trace.Span
+import spock.lang.Specification
+
+import java.util.concurrent.TimeUnit
+
+class GrpcMessageEventsTest extends Specification {
+
+  def "records all events by default"() {
+    setup:
+    def span = Mock(Span)
+    def events = new GrpcMessageEvents(-1)
+
+    when:
+    10.times { events.sent(span) }
+    events.end(span)
+
+    then:
+    10 * span.addEvent("message", _ as Attributes)
+    0 * span.addEvent(*_)
+    events.sentCount() == 10
+    events.receivedCount() == 0
+  }
+
+  def "records only the first and the last events"() {
+    setup:
+    def span = Mock(Span) {
+      isRecording() >> true
+    }
+    def events = new GrpcMessageEvents(2)
+
+    when:
+    5.times {
+      events.sent(span)
+      events.received(span)
+    }
+
+    then:
+    1 * span.addEvent("message", attributes("SENT", 1))
+    1 * span.addEvent("message", attributes("RECEIVED", 2))
+    0 * span.addEvent(*_)
+    events.sentCount() == 5
+    events.receivedCount() == 5
+
+    when:
+    events.end(span)
+
+    then:
+    1 * span.addEvent("message", attributes("SENT", 9), _ as Long, TimeUnit.MILLISECONDS)
+
+    then:
+    1 * span.addEvent("message", attributes("RECEIVED", 10), _ as Long, TimeUnit.MILLISECONDS)
+    0 * span.addEvent(*_)
+  }
+
+  def "records no events with a zero limit"() {
+    setup:
+    def span = Mock(Span)
+    def events = new GrpcMessageEvents(0)
+
+    when:
+    3.times { events.received(span) }
+    events.end(span)
+
+    then:
+    0 * span.addEvent(*_)
+    events.receivedCount() == 3
+  }
+
+  static Attributes attributes(String type, long id) {
+    return Attributes.of(GrpcHelper.MESSAGE_TYPE, type, GrpcHelper.MESSAGE_ID, id)
+  }
+}
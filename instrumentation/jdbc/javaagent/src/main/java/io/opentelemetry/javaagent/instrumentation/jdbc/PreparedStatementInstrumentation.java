@@ -12,11 +12,15 @@ import static io.opentelemetry.javaagent.instrumentation.jdbc.JdbcSingletons.ins
 import static net.bytebuddy.matcher.ElementMatchers.isPublic;
 import static net.bytebuddy.matcher.ElementMatchers.nameStartsWith;
 import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
+import static net.bytebuddy.matcher.ElementMatchers.not;
 import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
 
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.instrumentation.jdbc.internal.DbRequest;
+import io.opentelemetry.instrumentation.jdbc.internal.JdbcBatch;
+import io.opentelemetry.instrumentation.jdbc.internal.JdbcData;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
 import io.opentelemetry.javaagent.instrumentation.api.CallDepth;
@@ -41,8 +45,14 @@ public class PreparedStatementInstrumentation implements TypeInstrumentation {
   @Override
   public void transform(TypeTransformer transformer) {
     transformer.applyAdviceToMethod(
-        nameStartsWith("execute").and(takesArguments(0)).and(isPublic()),
+        nameStartsWith("execute")
+            .and(not(namedOneOf("executeBatch", "executeLargeBatch")))
+            .and(takesArguments(0))
+            .and(isPublic()),
         PreparedStatementInstrumentation.class.getName() + "$PreparedStatementAdvice");
+    transformer.applyAdviceToMethod(
+        named("addBatch").and(takesArguments(0)).and(isPublic()),
+        PreparedStatementInstrumentation.class.getName() + "$AddBatchAdvice");
   }
 
   @SuppressWarnings("unused")
@@ -95,4 +105,33 @@ public class PreparedStatementInstrumentation implements TypeInstrumentation {
       }
     }
   }
+
+  @SuppressWarnings("unused")
+  public static class AddBatchAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static void onEnter(
+        @Advice.This PreparedStatement statement,
+        @Advice.Local("otelCallDepth") CallDepth callDepth) {
+      // wrapping statements (e.g. connection pools) delegate to the actual statement, only the
+      // outermost one keeps track of the batch
+      callDepth = CallDepth.forClass(Statement.class);
+      if (callDepth.getAndIncrement() > 0) {
+        return;
+      }
+
+      JdbcBatch batch = JdbcData.batch.get(statement);
+      if (batch == null) {
+        batch = new JdbcBatch();
+        JdbcData.batch.set(statement, batch);
+      }
+      // the prepared SQL is the same for every row, it is only sanitized once
+      batch.add(JdbcData.preparedStatement.get(statement));
+    }
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+    public static void onExit(@Advice.Local("otelCallDepth") CallDepth callDepth) {
+      callDepth.decrementAndGet();
+    }
+  }
 }
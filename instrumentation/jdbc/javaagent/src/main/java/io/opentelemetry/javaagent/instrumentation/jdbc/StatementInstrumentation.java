@@ -12,11 +12,15 @@ import static io.opentelemetry.javaagent.instrumentation.jdbc.JdbcSingletons.ins
 import static net.bytebuddy.matcher.ElementMatchers.isPublic;
 import static net.bytebuddy.matcher.ElementMatchers.nameStartsWith;
 import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
 import static net.bytebuddy.matcher.ElementMatchers.takesArgument;
+import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
 
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.instrumentation.jdbc.internal.DbRequest;
+import io.opentelemetry.instrumentation.jdbc.internal.JdbcBatch;
+import io.opentelemetry.instrumentation.jdbc.internal.JdbcData;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
 import io.opentelemetry.javaagent.instrumentation.api.CallDepth;
@@ -42,6 +46,15 @@ public class StatementInstrumentation implements TypeInstrumentation {
     transformer.applyAdviceToMethod(
         nameStartsWith("execute").and(takesArgument(0, String.class)).and(isPublic()),
         StatementInstrumentation.class.getName() + "$StatementAdvice");
+    transformer.applyAdviceToMethod(
+        named("addBatch").and(takesArgument(0, String.class)).and(isPublic()),
+        StatementInstrumentation.class.getName() + "$AddBatchAdvice");
+    transformer.applyAdviceToMethod(
+        named("clearBatch").and(takesArguments(0)).and(isPublic()),
+        StatementInstrumentation.class.getName() + "$ClearBatchAdvice");
+    transformer.applyAdviceToMethod(
+        namedOneOf("executeBatch", "executeLargeBatch").and(takesArguments(0)).and(isPublic()),
+        StatementInstrumentation.class.getName() + "$BatchAdvice");
   }
 
   @SuppressWarnings("unused")
@@ -95,4 +108,90 @@ public class StatementInstrumentation implements TypeInstrumentation {
       }
     }
   }
+
+  @SuppressWarnings("unused")
+  public static class AddBatchAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static void onEnter(
+        @Advice.Argument(0) String sql,
+        @Advice.This Statement statement,
+        @Advice.Local("otelCallDepth") CallDepth callDepth) {
+      // wrapping statements (e.g. connection pools) delegate to the actual statement, only the
+      // outermost one keeps track of the batch
+      callDepth = CallDepth.forClass(Statement.class);
+      if (callDepth.getAndIncrement() > 0) {
+        return;
+      }
+
+      JdbcBatch batch = JdbcData.batch.get(statement);
+      if (batch == null) {
+        batch = new JdbcBatch();
+        JdbcData.batch.set(statement, batch);
+      }
+      batch.add(sql);
+    }
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+    public static void onExit(@Advice.Local("otelCallDepth") CallDepth callDepth) {
+      callDepth.decrementAndGet();
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class ClearBatchAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static void onEnter(@Advice.This Statement statement) {
+      JdbcData.batch.set(statement, null);
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class BatchAdvice {
+
+    @Advice.OnMethodEnter(suppress = Throwable.class)
+    public static void onEnter(
+        @Advice.This Statement statement,
+        @Advice.Local("otelCallDepth") CallDepth callDepth,
+        @Advice.Local("otelRequest") DbRequest request,
+        @Advice.Local("otelContext") Context context,
+        @Advice.Local("otelScope") Scope scope) {
+      callDepth = CallDepth.forClass(Statement.class);
+      if (callDepth.getAndIncrement() > 0) {
+        return;
+      }
+
+      // the batch is cleared once it is executed
+      JdbcBatch batch = JdbcData.batch.get(statement);
+      JdbcData.batch.set(statement, null);
+
+      Context parentContext = currentContext();
+      request = DbRequest.createBatch(statement, batch);
+
+      if (request == null || !instrumenter().shouldStart(parentContext, request)) {
+        return;
+      }
+
+      context = instrumenter().start(parentContext, request);
+      scope = context.makeCurrent();
+    }
+
+    @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
+    public static void stopSpan(
+        @Advice.Thrown Throwable throwable,
+        @Advice.Local("otelCallDepth") CallDepth callDepth,
+        @Advice.Local("otelRequest") DbRequest request,
+        @Advice.Local("otelContext") Context context,
+        @Advice.Local("otelScope") Scope scope) {
+      if (callDepth.decrementAndGet() > 0) {
+        return;
+      }
+
+      if (scope != null) {
+        scope.close();
+        instrumenter().end(context, request, null, throwable);
+      }
+    }
+  }
 }
@@ -483,6 +483,105 @@ class JdbcInstrumentationTest extends AgentInstrumentationSpecification {
     "derby" | cpDatasources.get("c3p0").get("derby").getConnection()    | "APP"    | "CREATE TABLE PS_DERBY_C3P0 (id INTEGER not NULL, PRIMARY KEY ( id ))"   | "derby:memory:"
   }
 
+  def "prepared statement batch on #system with #connection.getClass().getCanonicalName() generates a single span"() {
+    setup:
+    connection.createStatement().withCloseable {
+      it.execute("CREATE TABLE $table (id INTEGER not NULL, PRIMARY KEY ( id ))")
+    }
+    ignoreTracesAndClear(1)
+    PreparedStatement statement = connection.prepareStatement("INSERT INTO $table VALUES (?)")
+
+    expect:
+    runWithSpan("parent") {
+      for (int i = 0; i < 100; i++) {
+        statement.setInt(1, i)
+        statement.addBatch()
+      }
+      return statement.executeBatch().length == 100
+    }
+    assertTraces(1) {
+      trace(0, 2) {
+        span(0) {
+          name "parent"
+          kind SpanKind.INTERNAL
+          hasNoParent()
+        }
+        span(1) {
+          name "INSERT ${dbNameLower}.$table"
+          kind CLIENT
+          childOf span(0)
+          attributes {
+            "$SemanticAttributes.DB_SYSTEM.key" system
+            "$SemanticAttributes.DB_NAME.key" dbNameLower
+            "$SemanticAttributes.DB_STATEMENT.key" "INSERT INTO $table VALUES (?)"
+            "$SemanticAttributes.DB_OPERATION.key" "INSERT"
+            "$SemanticAttributes.DB_SQL_TABLE.key" table
+            "$SemanticAttributes.DB_CONNECTION_STRING.key" url
+            "db.jdbc.batch_size" 100L
+          }
+        }
+      }
+    }
+
+    cleanup:
+    statement.close()
+    connection.close()
+
+    where:
+    system | connection                                            | table               | url
+    "h2"   | new Driver().connect(jdbcUrls.get("h2"), null)        | "BATCH_H2"          | "h2:mem:"
+    "h2"   | cpDatasources.get("hikari").get("h2").getConnection() | "BATCH_H2_HIKARI"   | "h2:mem:"
+  }
+
+  def "statement batch on #system with #connection.getClass().getCanonicalName() generates a single span"() {
+    setup:
+    connection.createStatement().withCloseable {
+      it.execute("CREATE TABLE $table (id INTEGER not NULL, PRIMARY KEY ( id ))")
+    }
+    ignoreTracesAndClear(1)
+    Statement statement = connection.createStatement()
+
+    expect:
+    runWithSpan("parent") {
+      for (int i = 0; i < 100; i++) {
+        statement.addBatch("INSERT INTO $table VALUES ($i)")
+      }
+      statement.addBatch("DELETE FROM $table WHERE id = 0")
+      return statement.executeBatch().length == 101
+    }
+    assertTraces(1) {
+      trace(0, 2) {
+        span(0) {
+          name "parent"
+          kind SpanKind.INTERNAL
+          hasNoParent()
+        }
+        span(1) {
+          kind CLIENT
+          childOf span(0)
+          attributes {
+            "$SemanticAttributes.DB_SYSTEM.key" system
+            "$SemanticAttributes.DB_NAME.key" dbNameLower
+            "$SemanticAttributes.DB_STATEMENT.key" "INSERT INTO $table VALUES (?); DELETE FROM $table WHERE id = ?"
+            "$SemanticAttributes.DB_OPERATION.key" "INSERT"
+            "$SemanticAttributes.DB_SQL_TABLE.key" table
+            "$SemanticAttributes.DB_CONNECTION_STRING.key" url
+            "db.jdbc.batch_size" 101L
+          }
+        }
+      }
+    }
+
+    cleanup:
+    statement.close()
+    connection.close()
+
+    where:
+    system | connection                                            | table                   | url
+    "h2"   | new Driver().connect(jdbcUrls.get("h2"), null)        | "S_BATCH_H2"            | "h2:mem:"
+    "h2"   | cpDatasources.get("hikari").get("h2").getConnection() | "S_BATCH_H2_HIKARI"     | "h2:mem:"
+  }
+
   def "connection constructor throwing then generating correct spans after recovery using #driver connection (prepare statement = #prepareStatement)"() {
     setup:
     Connection connection = null
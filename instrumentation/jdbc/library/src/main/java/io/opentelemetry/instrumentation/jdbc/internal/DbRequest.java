@@ -33,11 +33,42 @@ public abstract class DbRequest {
   }
 
   public static DbRequest create(DbInfo dbInfo, String statement) {
-    return new AutoValue_DbRequest(dbInfo, statement);
+    return new AutoValue_DbRequest(dbInfo, statement, null);
+  }
+
+  /**
+   * Creates a request for {@code executeBatch()}. If no statements were added to the batch of a
+   * {@link PreparedStatement} its SQL is used instead.
+   */
+  @Nullable
+  public static DbRequest createBatch(Statement statement, @Nullable JdbcBatch batch) {
+    Connection connection = connectionFromStatement(statement);
+    if (connection == null) {
+      return null;
+    }
+
+    String preparedSql =
+        statement instanceof PreparedStatement
+            ? JdbcData.preparedStatement.get((PreparedStatement) statement)
+            : null;
+    return createBatch(extractDbInfo(connection), preparedSql, batch);
+  }
+
+  public static DbRequest createBatch(
+      DbInfo dbInfo, @Nullable String preparedSql, @Nullable JdbcBatch batch) {
+    String statement = batch == null ? null : batch.statement();
+    if (statement == null) {
+      statement = preparedSql;
+    }
+    return new AutoValue_DbRequest(dbInfo, statement, batch == null ? 0L : batch.size());
   }
 
   public abstract DbInfo getDbInfo();
 
   @Nullable
   public abstract String getStatement();
+
+  /** Returns the number of statements executed in a batch, {@code null} if it's not a batch. */
+  @Nullable
+  public abstract Long getBatchSize();
 }
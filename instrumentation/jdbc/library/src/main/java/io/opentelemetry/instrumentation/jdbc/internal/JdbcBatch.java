@@ -0,0 +1,63 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jdbc.internal;
+
+import io.opentelemetry.instrumentation.api.db.SqlStatementSanitizer;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Summary of the statements added to a JDBC batch, computed incrementally as {@code addBatch()} is
+ * called: the number of added statements and the distinct sanitized statements.
+ *
+ * <p>Batches usually consist of thousands of rows of the very same statement, so a statement is
+ * only sanitized if it differs from the previously added one; the number of distinct statements
+ * that is kept is bounded.
+ */
+public final class JdbcBatch {
+
+  private static final int MAX_DISTINCT_STATEMENTS = 10;
+
+  private final Set<String> statements = new LinkedHashSet<>();
+  private long size = 0;
+  @Nullable private String lastRawStatement;
+
+  /** Records a statement added to the batch. */
+  public void add(@Nullable String rawStatement) {
+    size++;
+    if (rawStatement == null
+        || statements.size() >= MAX_DISTINCT_STATEMENTS
+        || rawStatement.equals(lastRawStatement)) {
+      return;
+    }
+    lastRawStatement = rawStatement;
+    String statement = SqlStatementSanitizer.sanitize(rawStatement).getFullStatement();
+    if (statement != null) {
+      statements.add(statement);
+    }
+  }
+
+  /** Returns the number of statements added to the batch. */
+  public long size() {
+    return size;
+  }
+
+  /**
+   * Returns the distinct sanitized statements of the batch separated by {@code ;}, or {@code null}
+   * if no statement was added.
+   */
+  @Nullable
+  public String statement() {
+    if (statements.isEmpty()) {
+      return null;
+    }
+    if (statements.size() == 1) {
+      return statements.iterator().next();
+    }
+    return String.join("; ", statements);
+  }
+}
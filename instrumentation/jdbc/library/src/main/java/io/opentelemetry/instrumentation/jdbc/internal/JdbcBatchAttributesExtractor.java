@@ -0,0 +1,31 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.jdbc.internal;
+
+import static io.opentelemetry.api.common.AttributeKey.longKey;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/** Adds the number of statements executed by {@code executeBatch()} to batch spans. */
+public final class JdbcBatchAttributesExtractor extends AttributesExtractor<DbRequest, Void> {
+
+  private static final AttributeKey<Long> DB_JDBC_BATCH_SIZE = longKey("db.jdbc.batch_size");
+
+  @Override
+  protected void onStart(AttributesBuilder attributes, DbRequest request) {
+    set(attributes, DB_JDBC_BATCH_SIZE, request.getBatchSize());
+  }
+
+  @Override
+  protected void onEnd(
+      AttributesBuilder attributes,
+      DbRequest request,
+      @Nullable Void unused,
+      @Nullable Throwable error) {}
+}
@@ -8,14 +8,17 @@ package io.opentelemetry.instrumentation.jdbc.internal;
 import io.opentelemetry.instrumentation.api.field.VirtualField;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.Statement;
 
-/** Holds info associated with JDBC connections and prepared statements. */
+/** Holds info associated with JDBC connections, statements and prepared statements. */
 public final class JdbcData {
 
   public static VirtualField<Connection, DbInfo> connectionInfo =
       VirtualField.find(Connection.class, DbInfo.class);
   public static VirtualField<PreparedStatement, String> preparedStatement =
       VirtualField.find(PreparedStatement.class, String.class);
+  public static VirtualField<Statement, JdbcBatch> batch =
+      VirtualField.find(Statement.class, JdbcBatch.class);
 
   private JdbcData() {}
 }
@@ -27,6 +27,7 @@ public final class JdbcSingletons {
                 GlobalOpenTelemetry.get(), INSTRUMENTATION_NAME, spanName)
             .addAttributesExtractor(dbAttributesExtractor)
             .addAttributesExtractor(netAttributesExtractor)
+            .addAttributesExtractor(new JdbcBatchAttributesExtractor())
             .newInstrumenter(SpanKindExtractor.alwaysClient());
   }
 
@@ -223,6 +223,7 @@ public class OpenTelemetryPreparedStatement<S extends PreparedStatement>
   @Override
   public void addBatch() throws SQLException {
     delegate.addBatch();
+    batch.add(query);
   }
 
   @SuppressWarnings("UngroupedOverloads")
@@ -29,7 +29,6 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
-import java.util.ArrayList;
 
 public class OpenTelemetryStatement<S extends Statement> implements Statement {
 
@@ -37,7 +36,7 @@ public class OpenTelemetryStatement<S extends Statement> implements Statement {
   protected final DbInfo dbInfo;
   protected final String query;
 
-  private final ArrayList<String> batchCommands = new ArrayList<>();
+  protected JdbcBatch batch = new JdbcBatch();
 
   OpenTelemetryStatement(S delegate, DbInfo dbInfo) {
     this(delegate, dbInfo, null);
@@ -96,7 +95,10 @@ public class OpenTelemetryStatement<S extends Statement> implements Statement {
 
   @Override
   public int[] executeBatch() throws SQLException {
-    return wrapCall(buildSqlForBatch(), delegate::executeBatch);
+    DbRequest request = DbRequest.createBatch(dbInfo, query, batch);
+    // the batch is cleared once it is executed
+    batch = new JdbcBatch();
+    return wrapCall(request, delegate::executeBatch);
   }
 
   @Override
@@ -213,13 +215,13 @@ public class OpenTelemetryStatement<S extends Statement> implements Statement {
   @Override
   public void addBatch(String sql) throws SQLException {
     delegate.addBatch(sql);
-    batchCommands.add(sql);
+    batch.add(sql);
   }
 
   @Override
   public void clearBatch() throws SQLException {
     delegate.clearBatch();
-    batchCommands.clear();
+    batch = new JdbcBatch();
   }
 
   @Override
@@ -274,8 +276,12 @@ public class OpenTelemetryStatement<S extends Statement> implements Statement {
 
   protected <T, E extends Exception> T wrapCall(String sql, ThrowingSupplier<T, E> callable)
       throws E {
+    return wrapCall(DbRequest.create(dbInfo, sql), callable);
+  }
+
+  private <T, E extends Exception> T wrapCall(DbRequest request, ThrowingSupplier<T, E> callable)
+      throws E {
     Context parentContext = Context.current();
-    DbRequest request = DbRequest.create(dbInfo, sql);
 
     if (!instrumenter().shouldStart(parentContext, request)) {
       return callable.call();
@@ -292,17 +298,4 @@ public class OpenTelemetryStatement<S extends Statement> implements Statement {
     instrumenter().end(context, request, null, null);
     return result;
   }
-
-  private String buildSqlForBatch() {
-    StringBuilder sqlBuilder = new StringBuilder();
-    if (query != null) {
-      sqlBuilder.append(query);
-    }
-
-    for (String batchCommand : batchCommands) {
-      sqlBuilder.append(batchCommand);
-    }
-
-    return sqlBuilder.toString();
-  }
 }
@@ -49,12 +49,35 @@ tasks {
     jvmArgs("-Dotel.instrumentation.common.experimental.suppress-messaging-receive-spans=true")
   }
 
+  val testBatchProcess by registering(Test::class) {
+    filter {
+      includeTestsMatching("KafkaClientBatchProcessTest")
+      isFailOnNoMatchingTests = false
+    }
+    include("**/KafkaClientBatchProcessTest.*")
+    jvmArgs("-Dotel.instrumentation.kafka.experimental.batch-process.enabled=true")
+  }
+
+  val testBatchProcessMaxLinks by registering(Test::class) {
+    filter {
+      includeTestsMatching("KafkaClientBatchProcessMaxLinksTest")
+      isFailOnNoMatchingTests = false
+    }
+    include("**/KafkaClientBatchProcessMaxLinksTest.*")
+    jvmArgs("-Dotel.instrumentation.kafka.experimental.batch-process.enabled=true")
+    jvmArgs("-Dotel.instrumentation.kafka.experimental.batch-process.max-links=2")
+  }
+
   test {
     dependsOn(testPropagationDisabled)
     dependsOn(testReceiveSpansDisabled)
+    dependsOn(testBatchProcess)
+    dependsOn(testBatchProcessMaxLinks)
     filter {
       excludeTestsMatching("KafkaClientPropagationDisabledTest")
       excludeTestsMatching("KafkaClientSuppressReceiveSpansTest")
+      excludeTestsMatching("KafkaClientBatchProcessTest")
+      excludeTestsMatching("KafkaClientBatchProcessMaxLinksTest")
       isFailOnNoMatchingTests = false
     }
   }
@@ -96,7 +96,7 @@ public class ConsumerRecordsInstrumentation implements TypeInstrumentation {
       if (iterator != null) {
         SpanContext receiveSpanContext =
             VirtualField.find(ConsumerRecords.class, SpanContext.class).get(records);
-        iterator = new TracingIterator(iterator, receiveSpanContext);
+        iterator = new TracingIterator(iterator, receiveSpanContext, records);
       }
     }
   }
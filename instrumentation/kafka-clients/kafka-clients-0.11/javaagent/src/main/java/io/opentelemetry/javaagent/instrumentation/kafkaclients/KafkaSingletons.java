@@ -5,8 +5,10 @@
 
 package io.opentelemetry.javaagent.instrumentation.kafkaclients;
 
+import io.opentelemetry.instrumentation.api.config.Config;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.kafka.KafkaInstrumenterBuilder;
+import io.opentelemetry.instrumentation.kafka.ProcessedRecords;
 import io.opentelemetry.instrumentation.kafka.ReceivedRecords;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.ProducerRecord;
@@ -21,6 +23,12 @@ public final class KafkaSingletons {
   private static final Instrumenter<ConsumerRecord<?, ?>, Void> CONSUMER_PROCESS_INSTRUMENTER =
       KafkaInstrumenterBuilder.buildConsumerProcessInstrumenter(INSTRUMENTATION_NAME);
 
+  private static final boolean BATCH_PROCESS_ENABLED =
+      Config.get()
+          .getBoolean("otel.instrumentation.kafka.experimental.batch-process.enabled", false);
+  private static final Instrumenter<ProcessedRecords, Void> CONSUMER_BATCH_PROCESS_INSTRUMENTER =
+      KafkaInstrumenterBuilder.buildConsumerBatchProcessInstrumenter(INSTRUMENTATION_NAME);
+
   public static Instrumenter<ProducerRecord<?, ?>, Void> producerInstrumenter() {
     return PRODUCER_INSTRUMENTER;
   }
@@ -33,5 +41,17 @@ public final class KafkaSingletons {
     return CONSUMER_PROCESS_INSTRUMENTER;
   }
 
+  /**
+   * Returns whether the records of a consumed batch should be processed under a single span
+   * instead of one span per record.
+   */
+  public static boolean isBatchProcessEnabled() {
+    return BATCH_PROCESS_ENABLED;
+  }
+
+  public static Instrumenter<ProcessedRecords, Void> consumerBatchProcessInstrumenter() {
+    return CONSUMER_BATCH_PROCESS_INSTRUMENTER;
+  }
+
   private KafkaSingletons() {}
 }
@@ -30,7 +30,7 @@ public class TracingIterable<K, V>
     // However, this is not thread-safe, but usually the first (hopefully only) traversal of
     // ConsumerRecords is performed in the same thread that called poll()
     if (firstIterator) {
-      it = new TracingIterator<>(delegate.iterator(), receiveSpanContext);
+      it = new TracingIterator<>(delegate.iterator(), receiveSpanContext, delegate);
       firstIterator = false;
     } else {
       it = delegate.iterator();
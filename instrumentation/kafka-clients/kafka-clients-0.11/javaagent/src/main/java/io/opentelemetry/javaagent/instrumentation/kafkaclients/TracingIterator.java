@@ -5,13 +5,16 @@
 
 package io.opentelemetry.javaagent.instrumentation.kafkaclients;
 
+import static io.opentelemetry.javaagent.instrumentation.kafkaclients.KafkaSingletons.consumerBatchProcessInstrumenter;
 import static io.opentelemetry.javaagent.instrumentation.kafkaclients.KafkaSingletons.consumerProcessInstrumenter;
+import static io.opentelemetry.javaagent.instrumentation.kafkaclients.KafkaSingletons.isBatchProcessEnabled;
 
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.instrumentation.kafka.KafkaConsumerIteratorWrapper;
+import io.opentelemetry.instrumentation.kafka.ProcessedRecords;
 import java.util.Iterator;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -21,6 +24,7 @@ public class TracingIterator<K, V>
 
   private final Iterator<ConsumerRecord<K, V>> delegateIterator;
   private final Context parentContext;
+  private final boolean batchProcess;
 
   /*
    * Note: this may potentially create problems if this iterator is used from different threads. But
@@ -30,8 +34,14 @@ public class TracingIterator<K, V>
   @Nullable private Context currentContext;
   @Nullable private Scope currentScope;
 
+  // cleared once the batch span is started
+  @Nullable private ProcessedRecords batchRequest;
+  @Nullable private ProcessedRecords currentBatchRequest;
+
   public TracingIterator(
-      Iterator<ConsumerRecord<K, V>> delegateIterator, @Nullable SpanContext receiveSpanContext) {
+      Iterator<ConsumerRecord<K, V>> delegateIterator,
+      @Nullable SpanContext receiveSpanContext,
+      Iterable<? extends ConsumerRecord<?, ?>> records) {
     this.delegateIterator = delegateIterator;
 
     // use the receive CONSUMER span as parent if it's available
@@ -40,16 +50,37 @@ public class TracingIterator<K, V>
       parentContext = parentContext.with(Span.wrap(receiveSpanContext));
     }
     this.parentContext = parentContext;
+
+    this.batchProcess = isBatchProcessEnabled();
+    if (batchProcess) {
+      batchRequest = ProcessedRecords.create(records);
+    }
   }
 
   @Override
   public boolean hasNext() {
+    if (batchProcess) {
+      boolean hasNext = delegateIterator.hasNext();
+      if (hasNext) {
+        startBatch();
+      } else {
+        closeScopeAndEndBatch();
+      }
+      return hasNext;
+    }
+
     closeScopeAndEndSpan();
     return delegateIterator.hasNext();
   }
 
   @Override
   public ConsumerRecord<K, V> next() {
+    if (batchProcess) {
+      // in case they didn't call hasNext()...
+      startBatch();
+      return delegateIterator.next();
+    }
+
     // in case they didn't call hasNext()...
     closeScopeAndEndSpan();
 
@@ -62,6 +93,31 @@ public class TracingIterator<K, V>
     return next;
   }
 
+  // a single span for the whole batch, started before the first record is processed and ended
+  // when the iteration is over
+  private void startBatch() {
+    ProcessedRecords request = batchRequest;
+    if (request == null) {
+      return;
+    }
+    batchRequest = null;
+    if (consumerBatchProcessInstrumenter().shouldStart(parentContext, request)) {
+      currentBatchRequest = request;
+      currentContext = consumerBatchProcessInstrumenter().start(parentContext, request);
+      currentScope = currentContext.makeCurrent();
+    }
+  }
+
+  private void closeScopeAndEndBatch() {
+    if (currentScope != null) {
+      currentScope.close();
+      consumerBatchProcessInstrumenter().end(currentContext, currentBatchRequest, null, null);
+      currentScope = null;
+      currentContext = null;
+    }
+    currentBatchRequest = null;
+  }
+
   private void closeScopeAndEndSpan() {
     if (currentScope != null) {
       currentScope.close();
@@ -0,0 +1,85 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.kafkaclients
+
+import io.opentelemetry.sdk.trace.data.SpanData
+import org.apache.kafka.clients.producer.ProducerRecord
+
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+
+import static io.opentelemetry.api.trace.SpanKind.CONSUMER
+import static io.opentelemetry.api.trace.SpanKind.INTERNAL
+import static io.opentelemetry.api.trace.SpanKind.PRODUCER
+
+// runs with otel.instrumentation.kafka.experimental.batch-process.max-links=2
+class KafkaClientBatchProcessMaxLinksTest extends KafkaClientPropagationBaseTest {
+
+  def "test batch span links are sampled when the batch is larger than max-links"() {
+    when:
+    def batchSize = 5
+    runWithSpan("parent") {
+      for (int i = 0; i < batchSize; ++i) {
+        producer.send(new ProducerRecord(SHARED_TOPIC, "message " + i)).get(5, TimeUnit.SECONDS)
+      }
+    }
+
+    then:
+    awaitUntilConsumerIsReady()
+    def records = consumer.poll(Duration.ofSeconds(5).toMillis())
+    records.count() == batchSize
+
+    // iterate over records to generate spans
+    for (record in records) {
+      runWithSpan("processing") {}
+    }
+
+    assertTraces(2) {
+      traces.sort(orderByRootSpanKind(INTERNAL, CONSUMER))
+
+      List<SpanData> producerSpans
+
+      trace(0, 1 + batchSize) {
+        span(0) {
+          name "parent"
+          kind INTERNAL
+          hasNoParent()
+        }
+        for (int i = 1; i <= batchSize; ++i) {
+          span(i) {
+            name SHARED_TOPIC + " send"
+            kind PRODUCER
+            childOf span(0)
+          }
+        }
+
+        producerSpans = (1..batchSize).collect { span(it) }
+      }
+      trace(1, 2 + batchSize) {
+        span(0) {
+          name SHARED_TOPIC + " receive"
+          kind CONSUMER
+          hasNoParent()
+        }
+        // every third record is linked: ceil(5 / 2) = 3
+        span(1) {
+          name SHARED_TOPIC + " process"
+          kind CONSUMER
+          childOf span(0)
+          hasLink producerSpans[0]
+          hasLink producerSpans[3]
+        }
+        assert span(1).links.size() == 2
+        for (int i = 0; i < batchSize; ++i) {
+          span(2 + i) {
+            name "processing"
+            childOf span(1)
+          }
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.kafkaclients
+
+import io.opentelemetry.sdk.trace.data.SpanData
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes
+import org.apache.kafka.clients.admin.AdminClient
+import org.apache.kafka.clients.admin.NewTopic
+import org.apache.kafka.clients.consumer.KafkaConsumer
+import org.apache.kafka.clients.producer.ProducerRecord
+import org.apache.kafka.common.TopicPartition
+import spock.lang.Unroll
+
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+
+import static io.opentelemetry.api.trace.SpanKind.CONSUMER
+import static io.opentelemetry.api.trace.SpanKind.INTERNAL
+import static io.opentelemetry.api.trace.SpanKind.PRODUCER
+
+class KafkaClientBatchProcessTest extends KafkaClientPropagationBaseTest {
+
+  def "test kafka produce and batch consume"() {
+    when:
+    String greeting = "Hello Kafka!"
+    runWithSpan("parent") {
+      producer.send(new ProducerRecord(SHARED_TOPIC, greeting)).get(5, TimeUnit.SECONDS)
+    }
+
+    then:
+    awaitUntilConsumerIsReady()
+    def records = consumer.poll(Duration.ofSeconds(5).toMillis())
+    records.count() == 1
+
+    // iterate over records to generate spans
+    for (record in records) {
+      runWithSpan("processing") {
+        assert record.value() == greeting
+      }
+    }
+
+    assertTraces(2) {
+      traces.sort(orderByRootSpanKind(INTERNAL, CONSUMER))
+
+      SpanData producerSpan
+
+      trace(0, 2) {
+        span(0) {
+          name "parent"
+          kind INTERNAL
+          hasNoParent()
+        }
+        span(1) {
+          name SHARED_TOPIC + " send"
+          kind PRODUCER
+          childOf span(0)
+        }
+
+        producerSpan = span(1)
+      }
+      trace(1, 3) {
+        span(0) {
+          name SHARED_TOPIC + " receive"
+          kind CONSUMER
+          hasNoParent()
+        }
+        span(1) {
+          name SHARED_TOPIC + " process"
+          kind CONSUMER
+          childOf span(0)
+          hasLink producerSpan
+          attributes {
+            "${SemanticAttributes.MESSAGING_SYSTEM.key}" "kafka"
+            "${SemanticAttributes.MESSAGING_DESTINATION.key}" SHARED_TOPIC
+            "${SemanticAttributes.MESSAGING_DESTINATION_KIND.key}" "topic"
+            "${SemanticAttributes.MESSAGING_OPERATION.key}" "process"
+          }
+        }
+        span(2) {
+          name "processing"
+          childOf span(1)
+        }
+      }
+    }
+  }
+
+  def "test kafka produce and batch consume multiple records"() {
+    when:
+    def greetings = ["Hello", "Kafka", "batch"]
+    runWithSpan("parent") {
+      for (greeting in greetings) {
+        producer.send(new ProducerRecord(SHARED_TOPIC, greeting)).get(5, TimeUnit.SECONDS)
+      }
+    }
+
+    then:
+    awaitUntilConsumerIsReady()
+    def records = consumer.poll(Duration.ofSeconds(5).toMillis())
+    records.count() == greetings.size()
+
+    // iterate over records to generate spans
+    for (record in records) {
+      runWithSpan("processing " + record.value()) {}
+    }
+
+    assertTraces(2) {
+      traces.sort(orderByRootSpanKind(INTERNAL, CONSUMER))
+
+      List<SpanData> producerSpans
+
+      trace(0, 1 + greetings.size()) {
+        span(0) {
+          name "parent"
+          kind INTERNAL
+          hasNoParent()
+        }
+        for (int i = 1; i <= greetings.size(); ++i) {
+          span(i) {
+            name SHARED_TOPIC + " send"
+            kind PRODUCER
+            childOf span(0)
+          }
+        }
+
+        producerSpans = (1..greetings.size()).collect { span(it) }
+      }
+      // a single process span for the whole batch, linked to every record
+      trace(1, 2 + greetings.size()) {
+        span(0) {
+          name SHARED_TOPIC + " receive"
+          kind CONSUMER
+          hasNoParent()
+        }
+        span(1) {
+          name SHARED_TOPIC + " process"
+          kind CONSUMER
+          childOf span(0)
+          for (producerSpan in producerSpans) {
+            hasLink producerSpan
+          }
+          attributes {
+            "${SemanticAttributes.MESSAGING_SYSTEM.key}" "kafka"
+            "${SemanticAttributes.MESSAGING_DESTINATION.key}" SHARED_TOPIC
+            "${SemanticAttributes.MESSAGING_DESTINATION_KIND.key}" "topic"
+            "${SemanticAttributes.MESSAGING_OPERATION.key}" "process"
+          }
+        }
+        assert span(1).links.size() == greetings.size()
+        for (int i = 0; i < greetings.size(); ++i) {
+          span(2 + i) {
+            name "processing " + greetings[i]
+            childOf span(1)
+          }
+        }
+      }
+    }
+  }
+
+  def "test kafka batch consume from multiple topics"() {
+    given:
+    def topics = ["batch.topic1", "batch.topic2"]
+    AdminClient.create(["bootstrap.servers": kafka.bootstrapServers]).withCloseable { admin ->
+      admin.createTopics(topics.collect { new NewTopic(it, 1, (short) 1) }).all().get(10, TimeUnit.SECONDS)
+    }
+    // a separate consumer, so that the shared one stays subscribed to the shared topic only
+    def multiTopicConsumer = new KafkaConsumer<Integer, String>(consumerProps() + ["group.id": "batch-multiple-topics"])
+    def partitions = topics.collect { new TopicPartition(it, 0) }
+    multiTopicConsumer.assign(partitions)
+    multiTopicConsumer.seekToBeginning(partitions)
+
+    when:
+    runWithSpan("parent") {
+      for (topic in topics) {
+        producer.send(new ProducerRecord(topic, topic + " message")).get(5, TimeUnit.SECONDS)
+      }
+    }
+
+    then:
+    def records = multiTopicConsumer.poll(Duration.ofSeconds(5).toMillis())
+    records.count() == topics.size()
+
+    // iterate over records to generate spans
+    for (record in records) {
+      runWithSpan("processing") {}
+    }
+
+    assertTraces(2) {
+      traces.sort(orderByRootSpanKind(INTERNAL, CONSUMER))
+
+      List<SpanData> producerSpans
+
+      trace(0, 1 + topics.size()) {
+        span(0) {
+          name "parent"
+          kind INTERNAL
+          hasNoParent()
+        }
+        for (int i = 1; i <= topics.size(); ++i) {
+          span(i) {
+            name topics[i - 1] + " send"
+            kind PRODUCER
+            childOf span(0)
+          }
+        }
+
+        producerSpans = (1..topics.size()).collect { span(it) }
+      }
+      // the batch has no single destination
+      trace(1, 2 + topics.size()) {
+        span(0) {
+          name "unknown receive"
+          kind CONSUMER
+          hasNoParent()
+        }
+        span(1) {
+          name "unknown process"
+          kind CONSUMER
+          childOf span(0)
+          for (producerSpan in producerSpans) {
+            hasLink producerSpan
+          }
+          attributes {
+            "${SemanticAttributes.MESSAGING_SYSTEM.key}" "kafka"
+            "${SemanticAttributes.MESSAGING_DESTINATION_KIND.key}" "topic"
+            "${SemanticAttributes.MESSAGING_OPERATION.key}" "process"
+          }
+        }
+        assert span(1).links.size() == topics.size()
+        for (int i = 0; i < topics.size(); ++i) {
+          span(2 + i) {
+            name "processing"
+            childOf span(1)
+          }
+        }
+      }
+    }
+
+    cleanup:
+    multiTopicConsumer?.close()
+  }
+
+  @Unroll
+  def "test kafka batch consume #method"() {
+    when:
+    def greetings = ["Hello", "Kafka"]
+    runWithSpan("parent") {
+      for (greeting in greetings) {
+        producer.send(new ProducerRecord(SHARED_TOPIC, greeting)).get(5, TimeUnit.SECONDS)
+      }
+    }
+
+    then:
+    awaitUntilConsumerIsReady()
+    def consumerRecords = consumer.poll(Duration.ofSeconds(5).toMillis())
+    consumerRecords.count() == greetings.size()
+
+    // iterate over records to generate spans
+    for (record in recordsOf(consumerRecords)) {
+      runWithSpan("processing " + record.value()) {}
+    }
+
+    assertTraces(2) {
+      traces.sort(orderByRootSpanKind(INTERNAL, CONSUMER))
+
+      List<SpanData> producerSpans
+
+      trace(0, 1 + greetings.size()) {
+        span(0) {
+          name "parent"
+          kind INTERNAL
+          hasNoParent()
+        }
+        for (int i = 1; i <= greetings.size(); ++i) {
+          span(i) {
+            name SHARED_TOPIC + " send"
+            kind PRODUCER
+            childOf span(0)
+          }
+        }
+
+        producerSpans = (1..greetings.size()).collect { span(it) }
+      }
+      trace(1, 2 + greetings.size()) {
+        span(0) {
+          name SHARED_TOPIC + " receive"
+          kind CONSUMER
+          hasNoParent()
+        }
+        span(1) {
+          name SHARED_TOPIC + " process"
+          kind CONSUMER
+          childOf span(0)
+          for (producerSpan in producerSpans) {
+            hasLink producerSpan
+          }
+          attributes {
+            "${SemanticAttributes.MESSAGING_SYSTEM.key}" "kafka"
+            "${SemanticAttributes.MESSAGING_DESTINATION.key}" SHARED_TOPIC
+            "${SemanticAttributes.MESSAGING_DESTINATION_KIND.key}" "topic"
+            "${SemanticAttributes.MESSAGING_OPERATION.key}" "process"
+          }
+        }
+        assert span(1).links.size() == greetings.size()
+        for (int i = 0; i < greetings.size(); ++i) {
+          span(2 + i) {
+            name "processing " + greetings[i]
+            childOf span(1)
+          }
+        }
+      }
+    }
+
+    where:
+    method                    | recordsOf
+    "records(topic)"          | { records -> records.records(SHARED_TOPIC) }
+    "records(TopicPartition)" | { records -> records.records(topicPartition) }
+  }
+}
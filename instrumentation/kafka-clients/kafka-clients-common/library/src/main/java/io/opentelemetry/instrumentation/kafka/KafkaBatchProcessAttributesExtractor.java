@@ -0,0 +1,75 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.kafka;
+
+import io.opentelemetry.instrumentation.api.instrumenter.messaging.MessageOperation;
+import io.opentelemetry.instrumentation.api.instrumenter.messaging.MessagingAttributesExtractor;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+public final class KafkaBatchProcessAttributesExtractor
+    extends MessagingAttributesExtractor<ProcessedRecords, Void> {
+
+  @Override
+  public MessageOperation operation() {
+    return MessageOperation.PROCESS;
+  }
+
+  @Override
+  protected String system(ProcessedRecords processedRecords) {
+    return "kafka";
+  }
+
+  @Override
+  protected String destinationKind(ProcessedRecords processedRecords) {
+    return SemanticAttributes.MessagingDestinationKindValues.TOPIC;
+  }
+
+  @Override
+  protected @Nullable String destination(ProcessedRecords processedRecords) {
+    return processedRecords.destination();
+  }
+
+  @Override
+  protected boolean temporaryDestination(ProcessedRecords processedRecords) {
+    return false;
+  }
+
+  @Override
+  protected @Nullable String protocol(ProcessedRecords processedRecords) {
+    return null;
+  }
+
+  @Override
+  protected @Nullable String protocolVersion(ProcessedRecords processedRecords) {
+    return null;
+  }
+
+  @Override
+  protected @Nullable String url(ProcessedRecords processedRecords) {
+    return null;
+  }
+
+  @Override
+  protected @Nullable String conversationId(ProcessedRecords processedRecords) {
+    return null;
+  }
+
+  @Override
+  protected @Nullable Long messagePayloadSize(ProcessedRecords processedRecords) {
+    return null;
+  }
+
+  @Override
+  protected @Nullable Long messagePayloadCompressedSize(ProcessedRecords processedRecords) {
+    return null;
+  }
+
+  @Override
+  protected @Nullable String messageId(ProcessedRecords processedRecords, @Nullable Void unused) {
+    return null;
+  }
+}
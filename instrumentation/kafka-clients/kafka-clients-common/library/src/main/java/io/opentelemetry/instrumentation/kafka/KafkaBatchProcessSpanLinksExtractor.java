@@ -0,0 +1,62 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.kafka;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.opentelemetry.instrumentation.api.instrumenter.SpanLinksBuilder;
+import io.opentelemetry.instrumentation.api.instrumenter.SpanLinksExtractor;
+import java.util.Iterator;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+/**
+ * Links the batch processing span to the spans that produced the records. If the batch contains
+ * more records than {@code maxLinks}, the links are sampled evenly across the whole batch.
+ */
+final class KafkaBatchProcessSpanLinksExtractor implements SpanLinksExtractor<ProcessedRecords> {
+
+  private static final KafkaConsumerRecordGetter GETTER = new KafkaConsumerRecordGetter();
+
+  private final ContextPropagators propagators;
+  private final int maxLinks;
+
+  KafkaBatchProcessSpanLinksExtractor(ContextPropagators propagators, int maxLinks) {
+    this.propagators = propagators;
+    this.maxLinks = maxLinks;
+  }
+
+  @Override
+  public void extract(
+      SpanLinksBuilder spanLinks, Context parentContext, ProcessedRecords processedRecords) {
+    if (maxLinks == 0) {
+      return;
+    }
+    int step = 1;
+    if (maxLinks > 0) {
+      int count = processedRecords.count();
+      // ceil(count / maxLinks)
+      step = Math.max(1, (count + maxLinks - 1) / maxLinks);
+    }
+
+    TextMapPropagator propagator = propagators.getTextMapPropagator();
+    int index = 0;
+    for (Iterator<? extends ConsumerRecord<?, ?>> it = processedRecords.iterator();
+        it.hasNext();
+        index++) {
+      ConsumerRecord<?, ?> record = it.next();
+      if (index % step != 0) {
+        continue;
+      }
+      SpanContext spanContext =
+          Span.fromContext(propagator.extract(Context.root(), record, GETTER)).getSpanContext();
+      // invalid span contexts are skipped by the links builder
+      spanLinks.addLink(spanContext);
+    }
+  }
+}
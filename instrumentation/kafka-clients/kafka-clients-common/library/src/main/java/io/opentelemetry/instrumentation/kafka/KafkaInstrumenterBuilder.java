@@ -7,6 +7,7 @@ package io.opentelemetry.instrumentation.kafka;
 
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.instrumentation.api.config.Config;
 import io.opentelemetry.instrumentation.api.config.ExperimentalConfig;
 import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
@@ -22,6 +23,9 @@ import org.apache.kafka.clients.producer.ProducerRecord;
 
 public final class KafkaInstrumenterBuilder {
 
+  private static final int BATCH_PROCESS_MAX_LINKS =
+      Config.get().getInt("otel.instrumentation.kafka.experimental.batch-process.max-links", -1);
+
   public static Instrumenter<ProducerRecord<?, ?>, Void> buildProducerInstrumenter(
       String instrumentationName) {
     return buildProducerInstrumenter(
@@ -108,5 +112,41 @@ public final class KafkaInstrumenterBuilder {
     }
   }
 
+  public static Instrumenter<ProcessedRecords, Void> buildConsumerBatchProcessInstrumenter(
+      String instrumentationName) {
+    return buildConsumerBatchProcessInstrumenter(
+        instrumentationName,
+        GlobalOpenTelemetry.get(),
+        BATCH_PROCESS_MAX_LINKS,
+        Collections.emptyList());
+  }
+
+  /**
+   * Returns an {@link Instrumenter} that creates a single span for a whole batch of processed
+   * records, linked to the spans that produced them. At most {@code maxLinks} links are added to
+   * the span; a negative value means no limit.
+   */
+  public static Instrumenter<ProcessedRecords, Void> buildConsumerBatchProcessInstrumenter(
+      String instrumentationName,
+      OpenTelemetry openTelemetry,
+      int maxLinks,
+      Iterable<AttributesExtractor<ProcessedRecords, Void>> extractors) {
+    KafkaBatchProcessAttributesExtractor attributesExtractor =
+        new KafkaBatchProcessAttributesExtractor();
+    SpanNameExtractor<ProcessedRecords> spanNameExtractor =
+        MessagingSpanNameExtractor.create(attributesExtractor);
+
+    InstrumenterBuilder<ProcessedRecords, Void> builder =
+        Instrumenter.<ProcessedRecords, Void>newBuilder(
+                openTelemetry, instrumentationName, spanNameExtractor)
+            .addAttributesExtractor(attributesExtractor)
+            .addAttributesExtractors(extractors);
+    if (KafkaPropagation.isPropagationEnabled()) {
+      builder.addSpanLinksExtractor(
+          new KafkaBatchProcessSpanLinksExtractor(openTelemetry.getPropagators(), maxLinks));
+    }
+    return builder.newInstrumenter(SpanKindExtractor.alwaysConsumer());
+  }
+
   private KafkaInstrumenterBuilder() {}
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.kafka;
+
+import java.util.Collection;
+import java.util.Iterator;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/** A batch of consumer records that is processed as a whole, under a single span. */
+public final class ProcessedRecords {
+
+  public static ProcessedRecords create(Iterable<? extends ConsumerRecord<?, ?>> records) {
+    return new ProcessedRecords(records);
+  }
+
+  private final Iterable<? extends ConsumerRecord<?, ?>> records;
+
+  // computed lazily, in a single pass over the records
+  private boolean summarized = false;
+  private int count;
+  @Nullable private String destination;
+
+  private ProcessedRecords(Iterable<? extends ConsumerRecord<?, ?>> records) {
+    this.records = records;
+  }
+
+  /** Returns an iterator over the records of this batch that does not start any spans. */
+  Iterator<? extends ConsumerRecord<?, ?>> iterator() {
+    Iterator<? extends ConsumerRecord<?, ?>> iterator = records.iterator();
+    // ConsumerRecords.iterator() is instrumented, make sure not to start any per-record spans
+    if (iterator instanceof KafkaConsumerIteratorWrapper) {
+      iterator = ((KafkaConsumerIteratorWrapper<?, ?>) iterator).unwrap();
+    }
+    return iterator;
+  }
+
+  /** Returns the number of records in this batch. */
+  int count() {
+    if (records instanceof ConsumerRecords) {
+      return ((ConsumerRecords<?, ?>) records).count();
+    }
+    if (records instanceof Collection) {
+      return ((Collection<?>) records).size();
+    }
+    summarize();
+    return count;
+  }
+
+  /** Returns the topic of the records, or {@code null} if there is more than one. */
+  @Nullable
+  String destination() {
+    summarize();
+    return destination;
+  }
+
+  private void summarize() {
+    if (summarized) {
+      return;
+    }
+    summarized = true;
+
+    int count = 0;
+    String destination = null;
+    boolean multipleTopics = false;
+    for (Iterator<? extends ConsumerRecord<?, ?>> it = iterator(); it.hasNext(); ) {
+      String topic = it.next().topic();
+      if (destination == null) {
+        destination = topic;
+      } else if (!multipleTopics && !destination.equals(topic)) {
+        multipleTopics = true;
+      }
+      count++;
+    }
+    this.count = count;
+    // only return topic when there's exactly one in the batch
+    this.destination = multipleTopics ? null : destination;
+  }
+}
@@ -5,10 +5,11 @@
 
 package io.opentelemetry.javaagent.instrumentation.lettuce.v5_0;
 
+import io.lettuce.core.protocol.CommandArgs;
 import io.lettuce.core.protocol.RedisCommand;
 import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer;
 import io.opentelemetry.instrumentation.api.instrumenter.db.DbAttributesExtractor;
-import io.opentelemetry.instrumentation.lettuce.common.LettuceArgSplitter;
+import io.opentelemetry.instrumentation.lettuce.common.LettuceArgEncoder;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
 import java.util.Collections;
 import java.util.List;
@@ -42,10 +43,11 @@ final class LettuceDbAttributesExtractor
   @Override
   protected String statement(RedisCommand<?, ?, ?> request) {
     String command = LettuceInstrumentationUtil.getCommandName(request);
-    List<String> args =
-        request.getArgs() == null
+    CommandArgs<?, ?> commandArgs = request.getArgs();
+    List<Object> args =
+        commandArgs == null
             ? Collections.emptyList()
-            : LettuceArgSplitter.splitArgs(request.getArgs().toCommandString());
+            : LettuceArgEncoder.encodeArgs(commandArgs::encode);
     return RedisCommandSanitizer.sanitize(command, args);
   }
 
@@ -9,6 +9,7 @@ import static io.opentelemetry.instrumentation.lettuce.common.LettuceArgSplitter
 import static io.opentelemetry.semconv.trace.attributes.SemanticAttributes.NetTransportValues.IP_TCP;
 
 import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.protocol.CommandArgs;
 import io.lettuce.core.protocol.CompleteableCommand;
 import io.lettuce.core.protocol.RedisCommand;
 import io.lettuce.core.tracing.TraceContext;
@@ -24,12 +25,14 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer;
 import io.opentelemetry.instrumentation.api.tracer.AttributeSetter;
 import io.opentelemetry.instrumentation.api.tracer.net.NetPeerAttributes;
+import io.opentelemetry.instrumentation.lettuce.common.LettuceArgEncoder;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes.DbSystemValues;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -171,7 +174,7 @@ final class OpenTelemetryTracing implements Tracing {
 
     @Nullable private Span span;
 
-    @Nullable private String args;
+    private List<?> args = Collections.emptyList();
 
     OpenTelemetrySpan(SpanBuilder spanBuilder) {
       this.spanBuilder = spanBuilder;
@@ -211,8 +214,9 @@ final class OpenTelemetryTracing implements Tracing {
       }
       span.updateName(command.getType().name());
 
-      if (command.getArgs() != null) {
-        args = command.getArgs().toCommandString();
+      CommandArgs<?, ?> commandArgs = command.getArgs();
+      if (commandArgs != null) {
+        args = LettuceArgEncoder.encodeArgs(commandArgs::encode);
       }
 
       if (command instanceof CompleteableCommand) {
@@ -279,7 +283,7 @@ final class OpenTelemetryTracing implements Tracing {
     @Override
     public synchronized Tracer.Span tag(String key, String value) {
       if (key.equals("redis.args")) {
-        args = value;
+        args = splitArgs(value);
         return this;
       }
       if (span != null) {
@@ -309,7 +313,7 @@ final class OpenTelemetryTracing implements Tracing {
 
     private void finish(Span span) {
       if (name != null) {
-        String statement = RedisCommandSanitizer.sanitize(name, splitArgs(args));
+        String statement = RedisCommandSanitizer.sanitize(name, args);
         span.setAttribute(SemanticAttributes.DB_STATEMENT, statement);
       }
       span.end();
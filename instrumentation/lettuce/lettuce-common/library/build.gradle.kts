@@ -1,3 +1,9 @@
 plugins {
   id("otel.library-instrumentation")
 }
+
+dependencies {
+  compileOnly("io.netty:netty-buffer:4.0.0.Final")
+
+  testImplementation("io.netty:netty-buffer:4.0.0.Final")
+}
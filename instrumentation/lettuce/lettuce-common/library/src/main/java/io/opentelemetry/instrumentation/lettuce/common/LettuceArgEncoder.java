@@ -0,0 +1,93 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.lettuce.common;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Extracts the arguments of a Lettuce command from their wire encoding. Unlike {@code
+ * CommandArgs.toCommandString()}, this never renders more than {@link
+ * RedisCommandSanitizer#maxStatementLength()} characters worth of arguments: encoding stops once
+ * the buffer is full, and the remaining arguments are dropped.
+ */
+public final class LettuceArgEncoder {
+
+  // a UTF-8 encoded char takes at most 4 bytes
+  private static final int MAX_BYTES = RedisCommandSanitizer.maxStatementLength() * 4;
+
+  /**
+   * Encodes arguments with the passed encoder (e.g. {@code CommandArgs::encode}) and returns them
+   * as a list of {@code byte[]}, ready to be passed to {@link RedisCommandSanitizer}.
+   */
+  public static List<Object> encodeArgs(Consumer<ByteBuf> encoder) {
+    return encodeArgs(encoder, MAX_BYTES);
+  }
+
+  // visible for testing
+  static List<Object> encodeArgs(Consumer<ByteBuf> encoder, int maxBytes) {
+    ByteBuf buffer = Unpooled.buffer(Math.min(maxBytes, 256), maxBytes);
+    try {
+      try {
+        encoder.accept(buffer);
+      } catch (IndexOutOfBoundsException e) {
+        // the buffer is full, the arguments written so far are still usable
+      }
+      return decode(buffer);
+    } finally {
+      buffer.release();
+    }
+  }
+
+  // every argument is encoded as a RESP bulk string: $<length>\r\n<bytes>\r\n
+  private static List<Object> decode(ByteBuf buffer) {
+    if (!buffer.isReadable()) {
+      return Collections.emptyList();
+    }
+    List<Object> args = new ArrayList<>();
+    while (buffer.isReadable() && buffer.readByte() == '$') {
+      int length = readLength(buffer);
+      if (length < 0 || (length > 0 && !buffer.isReadable())) {
+        break;
+      }
+      int available = Math.min(length, buffer.readableBytes());
+      byte[] arg = new byte[available];
+      buffer.readBytes(arg);
+      args.add(arg);
+      if (available < length || buffer.readableBytes() < 2) {
+        break;
+      }
+      buffer.skipBytes(2);
+    }
+    return args;
+  }
+
+  private static int readLength(ByteBuf buffer) {
+    int length = 0;
+    while (buffer.isReadable()) {
+      byte b = buffer.readByte();
+      if (b == '\r') {
+        if (buffer.isReadable()) {
+          buffer.skipBytes(1);
+        }
+        return length;
+      }
+      if (b < '0' || b > '9') {
+        return -1;
+      }
+      length = length * 10 + (b - '0');
+    }
+    // the length itself was cut off
+    return -1;
+  }
+
+  private LettuceArgEncoder() {}
+}
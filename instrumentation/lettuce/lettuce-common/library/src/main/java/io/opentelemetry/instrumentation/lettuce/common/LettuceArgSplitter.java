@@ -5,6 +5,7 @@
 
 package io.opentelemetry.instrumentation.lettuce.common;
 
+import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -17,15 +18,20 @@ public final class LettuceArgSplitter {
       Pattern.compile("((key|value)<(?<wrapped>[^>]+)>|(?<plain>[0-9A-Za-z=]+))(\\s+|$)");
 
   // this method removes the key|value<...> wrappers around redis keys or values and splits the args
-  // string
+  // string; arguments that start past the maximum statement length are dropped
   public static List<String> splitArgs(@Nullable String args) {
+    return splitArgs(args, RedisCommandSanitizer.maxStatementLength());
+  }
+
+  // visible for testing
+  static List<String> splitArgs(@Nullable String args, int maxLength) {
     if (args == null || args.isEmpty()) {
       return Collections.emptyList();
     }
 
     List<String> argsList = new ArrayList<>();
     Matcher m = KEY_PATTERN.matcher(args);
-    while (m.find()) {
+    while (m.find() && m.start() < maxLength) {
       String wrapped = m.group("wrapped");
       if (wrapped != null) {
         argsList.add(wrapped);
@@ -0,0 +1,44 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.lettuce.common
+
+import io.netty.buffer.ByteBuf
+import spock.lang.Specification
+
+import static java.nio.charset.StandardCharsets.UTF_8
+
+class LettuceArgEncoderTest extends Specification {
+
+  def "should decode encoded args"() {
+    when:
+    def args = LettuceArgEncoder.encodeArgs({ buf -> writeArgs(buf, "key", "", "42") }, 1024)
+
+    then:
+    args.collect { new String((byte[]) it, UTF_8) } == ["key", "", "42"]
+  }
+
+  def "should keep the args that fit"() {
+    when:
+    def args = LettuceArgEncoder.encodeArgs({ buf -> writeArgs(buf, "key", "a" * 100, "42") }, 32)
+
+    then:
+    args.collect { new String((byte[]) it, UTF_8) } == ["key"]
+  }
+
+  def "should return no args if nothing was encoded"() {
+    expect:
+    LettuceArgEncoder.encodeArgs({ buf -> }, 1024) == []
+  }
+
+  static void writeArgs(ByteBuf buf, String... args) {
+    for (String arg : args) {
+      byte[] bytes = arg.getBytes(UTF_8)
+      buf.writeBytes("\$${bytes.length}\r\n".getBytes(UTF_8))
+      buf.writeBytes(bytes)
+      buf.writeBytes("\r\n".getBytes(UTF_8))
+    }
+  }
+}
@@ -25,4 +25,9 @@ class LettuceArgSplitterTest extends Specification {
     "a base64 value"         | "TeST123=="                              | ["TeST123=="]
     "a complex list of args" | "key<key> aSDFgh4321= 5 test value<val>" | ["key", "aSDFgh4321=", "5", "test", "val"]
   }
+
+  def "should drop args past the maximum length"() {
+    expect:
+    LettuceArgSplitter.splitArgs("key<key> 5 value<val>", 10) == ["key", "5"]
+  }
 }
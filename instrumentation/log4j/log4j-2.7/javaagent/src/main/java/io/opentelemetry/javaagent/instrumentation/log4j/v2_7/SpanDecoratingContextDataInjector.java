@@ -39,7 +39,12 @@ public final class SpanDecoratingContextDataInjector implements ContextDataInjec
       return contextData;
     }
 
-    StringMap newContextData = new SortedArrayStringMap(contextData);
+    // the map passed in by log4j is owned by the logging event, so it can be updated in place if
+    // the delegate has populated it; any other map (e.g. the thread context map) must be copied
+    StringMap newContextData =
+        contextData == stringMap && !contextData.isFrozen()
+            ? contextData
+            : new SortedArrayStringMap(contextData);
     newContextData.putValue(TRACE_ID, currentContext.getTraceId());
     newContextData.putValue(SPAN_ID, currentContext.getSpanId());
     newContextData.putValue(TRACE_FLAGS, currentContext.getTraceFlags().asHex());
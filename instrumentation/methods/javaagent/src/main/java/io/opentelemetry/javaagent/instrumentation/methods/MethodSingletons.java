@@ -6,6 +6,7 @@
 package io.opentelemetry.javaagent.instrumentation.methods;
 
 import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.instrumentation.api.annotation.support.MethodDescriptorCache;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanKindExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanNameExtractor;
@@ -17,6 +18,9 @@ public final class MethodSingletons {
 
   private static final Instrumenter<Method, Void> INSTRUMENTER;
 
+  private static final MethodDescriptorCache<Method> METHODS =
+      MethodDescriptorCache.create(method -> method);
+
   static {
     SpanNameExtractor<Method> spanName = SpanNames::fromMethod;
 
@@ -30,5 +34,13 @@ public final class MethodSingletons {
     return INSTRUMENTER;
   }
 
+  /**
+   * Returns the traced method identified by the passed advice constants; the method is looked up
+   * only once.
+   */
+  public static Method method(Class<?> declaringClass, String methodName, String methodDescriptor) {
+    return METHODS.get(declaringClass, methodName, methodDescriptor);
+  }
+
   private MethodSingletons() {}
 }
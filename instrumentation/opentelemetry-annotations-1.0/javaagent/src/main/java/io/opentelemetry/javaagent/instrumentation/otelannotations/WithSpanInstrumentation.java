@@ -7,6 +7,7 @@ package io.opentelemetry.javaagent.instrumentation.otelannotations;
 
 import static io.opentelemetry.javaagent.instrumentation.otelannotations.WithSpanSingletons.instrumenter;
 import static io.opentelemetry.javaagent.instrumentation.otelannotations.WithSpanSingletons.instrumenterWithAttributes;
+import static io.opentelemetry.javaagent.instrumentation.otelannotations.WithSpanSingletons.method;
 import static net.bytebuddy.matcher.ElementMatchers.declaresMethod;
 import static net.bytebuddy.matcher.ElementMatchers.hasParameters;
 import static net.bytebuddy.matcher.ElementMatchers.isAnnotatedWith;
@@ -115,7 +116,10 @@ public class WithSpanInstrumentation implements TypeInstrumentation {
 
     @Advice.OnMethodEnter(suppress = Throwable.class)
     public static void onEnter(
-        @Advice.Origin Method method,
+        @Advice.Origin Class<?> declaringClass,
+        @Advice.Origin("#m") String methodName,
+        @Advice.Origin("#d") String methodDescriptor,
+        @Advice.Local("otelMethod") Method method,
         @Advice.Local("otelOperationEndSupport")
             AsyncOperationEndSupport<Method, Object> operationEndSupport,
         @Advice.Local("otelContext") Context context,
@@ -123,6 +127,7 @@ public class WithSpanInstrumentation implements TypeInstrumentation {
 
       Instrumenter<Method, Object> instrumenter = instrumenter();
       Context current = Java8BytecodeBridge.currentContext();
+      method = method(declaringClass, methodName, methodDescriptor);
 
       if (instrumenter.shouldStart(current, method)) {
         context = instrumenter.start(current, method);
@@ -134,7 +139,7 @@ public class WithSpanInstrumentation implements TypeInstrumentation {
 
     @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
     public static void stopSpan(
-        @Advice.Origin Method method,
+        @Advice.Local("otelMethod") Method method,
         @Advice.Local("otelOperationEndSupport")
             AsyncOperationEndSupport<Method, Object> operationEndSupport,
         @Advice.Local("otelContext") Context context,
@@ -154,7 +159,9 @@ public class WithSpanInstrumentation implements TypeInstrumentation {
 
     @Advice.OnMethodEnter(suppress = Throwable.class)
     public static void onEnter(
-        @Advice.Origin Method method,
+        @Advice.Origin Class<?> declaringClass,
+        @Advice.Origin("#m") String methodName,
+        @Advice.Origin("#d") String methodDescriptor,
         @Advice.AllArguments(typing = Assigner.Typing.DYNAMIC) Object[] args,
         @Advice.Local("otelOperationEndSupport")
             AsyncOperationEndSupport<MethodRequest, Object> operationEndSupport,
@@ -164,19 +171,19 @@ public class WithSpanInstrumentation implements TypeInstrumentation {
 
       Instrumenter<MethodRequest, Object> instrumenter = instrumenterWithAttributes();
       Context current = Java8BytecodeBridge.currentContext();
-      request = new MethodRequest(method, args);
+      request = new MethodRequest(method(declaringClass, methodName, methodDescriptor), args);
 
       if (instrumenter.shouldStart(current, request)) {
         context = instrumenter.start(current, request);
         scope = context.makeCurrent();
         operationEndSupport =
-            AsyncOperationEndSupport.create(instrumenter, Object.class, method.getReturnType());
+            AsyncOperationEndSupport.create(
+                instrumenter, Object.class, request.method().getReturnType());
       }
     }
 
     @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
     public static void stopSpan(
-        @Advice.Origin Method method,
         @Advice.Local("otelOperationEndSupport")
             AsyncOperationEndSupport<MethodRequest, Object> operationEndSupport,
         @Advice.Local("otelRequest") MethodRequest request,
@@ -8,7 +8,9 @@ package io.opentelemetry.javaagent.instrumentation.otelannotations;
 import application.io.opentelemetry.extension.annotations.WithSpan;
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.instrumentation.api.annotation.support.MethodDescriptorCache;
 import io.opentelemetry.instrumentation.api.annotation.support.MethodSpanAttributesExtractor;
+import io.opentelemetry.instrumentation.api.caching.Cache;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.api.tracer.SpanNames;
 import java.lang.reflect.Method;
@@ -20,6 +22,14 @@ public final class WithSpanSingletons {
       "io.opentelemetry.opentelemetry-annotations-1.0";
 
   private static final Logger logger = LoggerFactory.getLogger(WithSpanSingletons.class);
+
+  // the resolved Method instances are canonical, so these caches can compare them by identity
+  private static final MethodDescriptorCache<Method> METHODS =
+      MethodDescriptorCache.create(method -> method);
+  private static final Cache<Method, String> SPAN_NAMES = Cache.newBuilder().setWeakKeys().build();
+  private static final Cache<Method, SpanKind> SPAN_KINDS =
+      Cache.newBuilder().setWeakKeys().build();
+
   private static final Instrumenter<Method, Object> INSTRUMENTER = createInstrumenter();
   private static final Instrumenter<MethodRequest, Object> INSTRUMENTER_WITH_ATTRIBUTES =
       createInstrumenterWithAttributes();
@@ -32,10 +42,18 @@ public final class WithSpanSingletons {
     return INSTRUMENTER_WITH_ATTRIBUTES;
   }
 
+  /**
+   * Returns the traced method identified by the passed advice constants; the method is looked up
+   * only once.
+   */
+  public static Method method(Class<?> declaringClass, String methodName, String methodDescriptor) {
+    return METHODS.get(declaringClass, methodName, methodDescriptor);
+  }
+
   private static Instrumenter<Method, Object> createInstrumenter() {
     return Instrumenter.newBuilder(
-            GlobalOpenTelemetry.get(), INSTRUMENTATION_NAME, WithSpanSingletons::spanNameFromMethod)
-        .newInstrumenter(WithSpanSingletons::spanKindFromMethod);
+            GlobalOpenTelemetry.get(), INSTRUMENTATION_NAME, WithSpanSingletons::cachedSpanName)
+        .newInstrumenter(WithSpanSingletons::cachedSpanKind);
   }
 
   private static Instrumenter<MethodRequest, Object> createInstrumenterWithAttributes() {
@@ -52,7 +70,11 @@ public final class WithSpanSingletons {
   }
 
   private static SpanKind spanKindFromMethodRequest(MethodRequest request) {
-    return spanKindFromMethod(request.method());
+    return cachedSpanKind(request.method());
+  }
+
+  private static SpanKind cachedSpanKind(Method method) {
+    return SPAN_KINDS.computeIfAbsent(method, WithSpanSingletons::spanKindFromMethod);
   }
 
   private static SpanKind spanKindFromMethod(Method method) {
@@ -74,7 +96,11 @@ public final class WithSpanSingletons {
   }
 
   private static String spanNameFromMethodRequest(MethodRequest request) {
-    return spanNameFromMethod(request.method());
+    return cachedSpanName(request.method());
+  }
+
+  private static String cachedSpanName(Method method) {
+    return SPAN_NAMES.computeIfAbsent(method, WithSpanSingletons::spanNameFromMethod);
   }
 
   private static String spanNameFromMethod(Method method) {
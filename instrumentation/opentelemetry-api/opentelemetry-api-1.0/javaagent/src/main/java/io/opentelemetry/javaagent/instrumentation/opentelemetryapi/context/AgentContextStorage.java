@@ -16,6 +16,7 @@ import io.opentelemetry.javaagent.instrumentation.opentelemetryapi.trace.Bridgin
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.util.function.Function;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -49,6 +50,10 @@ public class AgentContextStorage implements ContextStorage, AutoCloseable {
   private final Context applicationRoot;
   // wrapped application root context
   private final Context root;
+  // the last context returned by current() on each thread, so that repeated calls with the same
+  // current context (e.g. Span.current() in a loop) don't allocate a new wrapper every time; it is
+  // referenced weakly so that the thread local doesn't keep the application class loader alive
+  private final ThreadLocal<WeakReference<AgentContextWrapper>> lastCurrent = new ThreadLocal<>();
 
   private AgentContextStorage(ContextStorage delegate) {
     applicationRoot = getRootContext(delegate);
@@ -206,7 +211,16 @@ public class AgentContextStorage implements ContextStorage, AutoCloseable {
         && agentContext == io.opentelemetry.context.Context.root()) {
       return root;
     }
-    return new AgentContextWrapper(agentContext, applicationContext);
+    WeakReference<AgentContextWrapper> lastCurrentReference = lastCurrent.get();
+    AgentContextWrapper wrapper = lastCurrentReference != null ? lastCurrentReference.get() : null;
+    if (wrapper != null
+        && wrapper.agentContext == agentContext
+        && wrapper.applicationContext == applicationContext) {
+      return wrapper;
+    }
+    wrapper = new AgentContextWrapper(agentContext, applicationContext);
+    lastCurrent.set(new WeakReference<>(wrapper));
+    return wrapper;
   }
 
   @Override
@@ -6,6 +6,7 @@
 package io.opentelemetry.javaagent.instrumentation.opentelemetryapi.trace;
 
 import application.io.opentelemetry.api.common.AttributeKey;
+import application.io.opentelemetry.api.common.AttributeType;
 import application.io.opentelemetry.api.common.Attributes;
 import application.io.opentelemetry.api.trace.Span;
 import application.io.opentelemetry.api.trace.SpanContext;
@@ -13,6 +14,7 @@ import application.io.opentelemetry.api.trace.SpanKind;
 import application.io.opentelemetry.api.trace.StatusCode;
 import application.io.opentelemetry.api.trace.TraceState;
 import application.io.opentelemetry.api.trace.TraceStateBuilder;
+import io.opentelemetry.instrumentation.api.caching.Cache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +37,15 @@ public class Bridging {
 
   private static final Logger logger = LoggerFactory.getLogger(Bridging.class);
 
+  private static final int MAX_CACHED_ATTRIBUTE_KEYS_PER_TYPE = 1000;
+
+  // the agent key is created only once per attribute name and type instead of on every
+  // setAttribute() call, also when the application creates a new key for every call; the caches
+  // are keyed by name (one cache per type) so that they never hold on to application classes
+  @SuppressWarnings("rawtypes")
+  private static final Cache<String, io.opentelemetry.api.common.AttributeKey>[]
+      agentAttributeKeys = createAgentAttributeKeyCaches();
+
   public static Span toApplication(io.opentelemetry.api.trace.Span agentSpan) {
     if (!agentSpan.getSpanContext().isValid()) {
       // no need to wrap
@@ -116,10 +127,33 @@ public class Bridging {
     return agentAttributes.build();
   }
 
-  // TODO optimize this by storing shaded AttributeKey inside of application AttributeKey instead of
-  // creating every time
   @SuppressWarnings({"rawtypes"})
   public static io.opentelemetry.api.common.AttributeKey toAgent(AttributeKey applicationKey) {
+    Cache<String, io.opentelemetry.api.common.AttributeKey> cache =
+        agentAttributeKeys[applicationKey.getType().ordinal()];
+    io.opentelemetry.api.common.AttributeKey agentKey = cache.get(applicationKey.getKey());
+    if (agentKey == null) {
+      agentKey = createAgentKey(applicationKey);
+      if (agentKey != null) {
+        cache.put(applicationKey.getKey(), agentKey);
+      }
+    }
+    return agentKey;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Cache<String, io.opentelemetry.api.common.AttributeKey>[]
+      createAgentAttributeKeyCaches() {
+    Cache[] caches = new Cache[AttributeType.values().length];
+    for (int i = 0; i < caches.length; i++) {
+      caches[i] = Cache.newBuilder().setMaximumSize(MAX_CACHED_ATTRIBUTE_KEYS_PER_TYPE).build();
+    }
+    return caches;
+  }
+
+  @SuppressWarnings({"rawtypes"})
+  private static io.opentelemetry.api.common.AttributeKey createAgentKey(
+      AttributeKey applicationKey) {
     switch (applicationKey.getType()) {
       case STRING:
         return io.opentelemetry.api.common.AttributeKey.stringKey(applicationKey.getKey());
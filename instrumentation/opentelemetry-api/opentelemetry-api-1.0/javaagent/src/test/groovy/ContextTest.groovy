@@ -30,6 +30,22 @@ class ContextTest extends AgentInstrumentationSpecification {
     span == testSpan
   }
 
+  def "Context.current() should return the same wrapper while the context does not change"() {
+    when:
+    def tracer = GlobalOpenTelemetry.getTracer("test")
+    def testSpan = tracer.spanBuilder("test").startSpan()
+    def scope = testSpan.makeCurrent()
+    def first = Context.current()
+    def second = Context.current()
+    scope.close()
+    def afterClose = Context.current()
+
+    then:
+    first.is(second)
+    !first.is(afterClose)
+    Span.fromContext(first) == testSpan
+  }
+
   def "Span.fromContext should return invalid"() {
     when:
     def span = Span.fromContext(Context.current())
@@ -38,6 +38,10 @@ public class HooksInstrumentation implements TypeInstrumentation {
           .setCaptureExperimentalSpanAttributes(
               Config.get()
                   .getBoolean("otel.instrumentation.reactor.experimental-span-attributes", false))
+          .setSelectivePropagation(
+              Config.get()
+                  .getBoolean(
+                      "otel.instrumentation.reactor.experimental-selective-propagation", false))
           .build()
           .registerOnEachOperator();
     }
@@ -0,0 +1,105 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.reactor;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Compares long operator chains without any context propagation, with the default propagation that
+ * wraps every operator and with the selective propagation that only wraps at context boundaries.
+ */
+@Fork(3)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ReactorOperatorChainBenchmark {
+
+  private static final int CHAIN_LENGTH = 20;
+  private static final int ELEMENTS = 1000;
+
+  @Param({"none", "eachOperator", "selective"})
+  public String propagation;
+
+  private TracingOperator tracingOperator;
+  private Scheduler scheduler;
+  private Scope scope;
+
+  @Setup
+  public void setUp() {
+    if (!propagation.equals("none")) {
+      tracingOperator =
+          TracingOperator.newBuilder()
+              .setSelectivePropagation(propagation.equals("selective"))
+              .build();
+      tracingOperator.registerOnEachOperator();
+    }
+    scheduler = Schedulers.newSingle("benchmark");
+
+    SpanContext spanContext =
+        SpanContext.create(
+            "0af7651916cd43dd8448eb211c80319c",
+            "b7ad6b7169203331",
+            TraceFlags.getSampled(),
+            TraceState.getDefault());
+    scope = Context.root().with(Span.wrap(spanContext)).makeCurrent();
+  }
+
+  @TearDown
+  public void tearDown() {
+    scope.close();
+    scheduler.dispose();
+    if (tracingOperator != null) {
+      tracingOperator.resetOnEachOperator();
+    }
+  }
+
+  @Benchmark
+  public Integer fluxChain() {
+    Flux<Integer> flux = Flux.range(0, ELEMENTS);
+    for (int i = 0; i < CHAIN_LENGTH; i++) {
+      flux = flux.map(x -> x + 1).filter(x -> x >= 0);
+    }
+    return flux.reduce(0, Integer::sum).block();
+  }
+
+  @Benchmark
+  public Integer monoChain() {
+    Mono<Integer> mono = Mono.fromCallable(() -> 1);
+    for (int i = 0; i < CHAIN_LENGTH; i++) {
+      mono = mono.map(x -> x + 1).flatMap(Mono::just);
+    }
+    return mono.block();
+  }
+
+  @Benchmark
+  public Integer fluxChainWithPublishOn() {
+    Flux<Integer> flux = Flux.range(0, ELEMENTS).publishOn(scheduler);
+    for (int i = 0; i < CHAIN_LENGTH; i++) {
+      flux = flux.map(x -> x + 1).filter(x -> x >= 0);
+    }
+    return flux.reduce(0, Integer::sum).block();
+  }
+}
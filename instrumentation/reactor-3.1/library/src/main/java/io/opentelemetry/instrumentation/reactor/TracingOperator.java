@@ -24,6 +24,9 @@ package io.opentelemetry.instrumentation.reactor;
 
 import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.annotation.support.async.AsyncOperationEndStrategies;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.reactivestreams.Publisher;
@@ -44,13 +47,90 @@ public final class TracingOperator {
     return new TracingOperatorBuilder();
   }
 
+  // key of the propagated OpenTelemetry context in the Reactor subscriber context
+  private static final String PROPAGATED_CONTEXT_KEY = TracingOperator.class.getName() + ".context";
+
+  // Operators that always deliver signals on the thread that delivered the upstream signal (or the
+  // subscribing thread) and never call user code asynchronously. Any other operator, including
+  // async sources (e.g. Mono.fromFuture(), Flux.create(), sinks), operators of other libraries and
+  // operators that are renamed in other Reactor versions, is treated as a context boundary.
+  private static final Set<String> SYNCHRONOUS_OPERATORS =
+      new HashSet<>(
+          Arrays.asList(
+              "reactor.core.publisher.FluxMap",
+              "reactor.core.publisher.FluxMapFuseable",
+              "reactor.core.publisher.FluxFilter",
+              "reactor.core.publisher.FluxFilterFuseable",
+              "reactor.core.publisher.FluxPeek",
+              "reactor.core.publisher.FluxPeekFuseable",
+              "reactor.core.publisher.FluxHandle",
+              "reactor.core.publisher.FluxHandleFuseable",
+              "reactor.core.publisher.FluxDefaultIfEmpty",
+              "reactor.core.publisher.FluxTake",
+              "reactor.core.publisher.FluxTakeFuseable",
+              "reactor.core.publisher.FluxTakeWhile",
+              "reactor.core.publisher.FluxSkip",
+              "reactor.core.publisher.FluxSkipWhile",
+              "reactor.core.publisher.FluxDistinct",
+              "reactor.core.publisher.FluxDistinctFuseable",
+              "reactor.core.publisher.FluxDistinctUntilChanged",
+              "reactor.core.publisher.FluxIndex",
+              "reactor.core.publisher.FluxIndexFuseable",
+              "reactor.core.publisher.FluxScan",
+              "reactor.core.publisher.FluxScanSeed",
+              "reactor.core.publisher.FluxDoFinally",
+              "reactor.core.publisher.FluxDoFinallyFuseable",
+              "reactor.core.publisher.FluxDoOnEach",
+              "reactor.core.publisher.FluxDoOnEachFuseable",
+              "reactor.core.publisher.FluxLog",
+              "reactor.core.publisher.FluxLogFuseable",
+              "reactor.core.publisher.FluxHide",
+              "reactor.core.publisher.FluxContextStart",
+              "reactor.core.publisher.FluxContextWrite",
+              "reactor.core.publisher.FluxOnAssembly",
+              "reactor.core.publisher.FluxLimitRequest",
+              "reactor.core.publisher.MonoMap",
+              "reactor.core.publisher.MonoMapFuseable",
+              "reactor.core.publisher.MonoFilter",
+              "reactor.core.publisher.MonoFilterFuseable",
+              "reactor.core.publisher.MonoPeek",
+              "reactor.core.publisher.MonoPeekFuseable",
+              "reactor.core.publisher.MonoPeekTerminal",
+              "reactor.core.publisher.MonoHandle",
+              "reactor.core.publisher.MonoHandleFuseable",
+              "reactor.core.publisher.MonoDefaultIfEmpty",
+              "reactor.core.publisher.MonoDoFinally",
+              "reactor.core.publisher.MonoDoFinallyFuseable",
+              "reactor.core.publisher.MonoDoOnEach",
+              "reactor.core.publisher.MonoDoOnEachFuseable",
+              "reactor.core.publisher.MonoLog",
+              "reactor.core.publisher.MonoLogFuseable",
+              "reactor.core.publisher.MonoHide",
+              "reactor.core.publisher.MonoContextWrite",
+              "reactor.core.publisher.MonoOnAssembly",
+              "reactor.core.publisher.MonoIgnoreElements",
+              "reactor.core.publisher.MonoCount",
+              "reactor.core.publisher.MonoCollect",
+              "reactor.core.publisher.MonoCollectList",
+              "reactor.core.publisher.MonoReduce",
+              "reactor.core.publisher.MonoReduceSeed",
+              "reactor.core.publisher.MonoNext",
+              "reactor.core.publisher.MonoSingle",
+              "reactor.core.publisher.MonoHasElements",
+              "reactor.core.publisher.MonoAll",
+              "reactor.core.publisher.MonoAny",
+              "reactor.core.publisher.MonoTakeLastOne",
+              "reactor.core.publisher.MonoElementAt"));
+
   private final ReactorAsyncOperationEndStrategy asyncOperationEndStrategy;
+  private final boolean selectivePropagation;
 
-  TracingOperator(boolean captureExperimentalSpanAttributes) {
+  TracingOperator(boolean captureExperimentalSpanAttributes, boolean selectivePropagation) {
     this.asyncOperationEndStrategy =
         ReactorAsyncOperationEndStrategy.newBuilder()
             .setCaptureExperimentalSpanAttributes(captureExperimentalSpanAttributes)
             .build();
+    this.selectivePropagation = selectivePropagation;
   }
 
   /**
@@ -58,9 +138,14 @@ public final class TracingOperator {
    * callbacks to ensure spans in the {@link Context} are available throughout the lifetime of a
    * reactive stream. This should generally be called in a static initializer block in your
    * application.
+   *
+   * <p>With {@link TracingOperatorBuilder#setSelectivePropagation(boolean)} enabled, operators that
+   * are known to be synchronous are not wrapped, see there for details.
    */
   public void registerOnEachOperator() {
-    Hooks.onEachOperator(TracingSubscriber.class.getName(), tracingLift(asyncOperationEndStrategy));
+    Hooks.onEachOperator(
+        TracingSubscriber.class.getName(),
+        tracingLift(asyncOperationEndStrategy, selectivePropagation));
     AsyncOperationEndStrategies.instance().registerStrategy(asyncOperationEndStrategy);
   }
 
@@ -71,8 +156,8 @@ public final class TracingOperator {
   }
 
   private static <T> Function<? super Publisher<T>, ? extends Publisher<T>> tracingLift(
-      ReactorAsyncOperationEndStrategy asyncOperationEndStrategy) {
-    return Operators.lift(new Lifter<>(asyncOperationEndStrategy));
+      ReactorAsyncOperationEndStrategy asyncOperationEndStrategy, boolean selectivePropagation) {
+    return Operators.lift(new Lifter<>(asyncOperationEndStrategy, selectivePropagation));
   }
 
   public static class Lifter<T>
@@ -82,8 +167,16 @@ public final class TracingOperator {
     @SuppressWarnings("FieldCanBeLocal")
     private final ReactorAsyncOperationEndStrategy asyncOperationEndStrategy;
 
+    private final boolean selectivePropagation;
+
     public Lifter(ReactorAsyncOperationEndStrategy asyncOperationEndStrategy) {
+      this(asyncOperationEndStrategy, false);
+    }
+
+    public Lifter(
+        ReactorAsyncOperationEndStrategy asyncOperationEndStrategy, boolean selectivePropagation) {
       this.asyncOperationEndStrategy = asyncOperationEndStrategy;
+      this.selectivePropagation = selectivePropagation;
     }
 
     @Override
@@ -92,7 +185,33 @@ public final class TracingOperator {
       if (publisher instanceof Fuseable.ScalarCallable) {
         return sub;
       }
+      if (selectivePropagation) {
+        return applySelectively(publisher, sub);
+      }
       return new TracingSubscriber<>(sub, sub.currentContext());
     }
+
+    private static <T> CoreSubscriber<? super T> applySelectively(
+        Scannable publisher, CoreSubscriber<? super T> sub) {
+      boolean contextBoundary = !SYNCHRONOUS_OPERATORS.contains(publisher.getClass().getName());
+      reactor.util.context.Context subscriberContext = sub.currentContext();
+      Context propagated = subscriberContext.getOrDefault(PROPAGATED_CONTEXT_KEY, null);
+      Context current = Context.current();
+
+      if (current == Context.root()) {
+        // e.g. subscribed on a scheduler thread: only carry the downstream context over thread hops
+        if (propagated == null || !contextBoundary) {
+          return sub;
+        }
+        return new TracingSubscriber<>(sub, subscriberContext, propagated);
+      }
+      // signals of synchronous operators are delivered on the thread of the upstream signal, there's
+      // nothing to do if a subscriber further downstream already propagates the same context
+      if (current == propagated && !contextBoundary) {
+        return sub;
+      }
+      return new TracingSubscriber<>(
+          sub, subscriberContext.put(PROPAGATED_CONTEXT_KEY, current), current);
+    }
   }
 }
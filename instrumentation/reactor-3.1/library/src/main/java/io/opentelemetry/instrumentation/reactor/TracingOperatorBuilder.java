@@ -7,6 +7,7 @@ package io.opentelemetry.instrumentation.reactor;
 
 public final class TracingOperatorBuilder {
   private boolean captureExperimentalSpanAttributes;
+  private boolean selectivePropagation;
 
   TracingOperatorBuilder() {}
 
@@ -16,7 +17,20 @@ public final class TracingOperatorBuilder {
     return this;
   }
 
+  /**
+   * Sets whether {@link io.opentelemetry.context.Context} should only be propagated at context
+   * boundaries instead of around every operator. When enabled, Reactor operators that are known to
+   * be synchronous (e.g. {@code map}, {@code filter}, {@code doOnNext}) are left untouched and keep
+   * their fusion if the context that is already propagated downstream is current. All other
+   * operators, including async sources like {@code Mono.fromFuture()} or {@code Flux.create()}
+   * and operators that are not part of Reactor, are still wrapped.
+   */
+  public TracingOperatorBuilder setSelectivePropagation(boolean selectivePropagation) {
+    this.selectivePropagation = selectivePropagation;
+    return this;
+  }
+
   public TracingOperator build() {
-    return new TracingOperator(captureExperimentalSpanAttributes);
+    return new TracingOperator(captureExperimentalSpanAttributes, selectivePropagation);
   }
 }
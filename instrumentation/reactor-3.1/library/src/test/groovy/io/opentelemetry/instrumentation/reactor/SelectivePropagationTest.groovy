@@ -0,0 +1,154 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.reactor
+
+import io.opentelemetry.api.trace.Span
+import io.opentelemetry.instrumentation.test.LibraryInstrumentationSpecification
+import reactor.core.CoreSubscriber
+import reactor.core.publisher.Flux
+import reactor.core.publisher.FluxSink
+import reactor.core.publisher.Mono
+import reactor.core.publisher.MonoSink
+import reactor.core.scheduler.Schedulers
+import spock.lang.Shared
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.atomic.AtomicReference
+
+import static io.opentelemetry.instrumentation.test.utils.TraceUtils.runUnderTrace
+
+class SelectivePropagationTest extends LibraryInstrumentationSpecification {
+
+  @Shared
+  TracingOperator tracingOperator = TracingOperator.newBuilder()
+    .setSelectivePropagation(true)
+    .build()
+
+  def setupSpec() {
+    tracingOperator.registerOnEachOperator()
+  }
+
+  def cleanupSpec() {
+    tracingOperator.resetOnEachOperator()
+  }
+
+  def "does not wrap operators without a context to propagate"() {
+    setup:
+    AtomicReference<CoreSubscriber> subscriber = new AtomicReference<>()
+
+    when:
+    new CapturingMono(subscriber).map { it + 1 }.subscribe()
+
+    then:
+    !(subscriber.get() instanceof TracingSubscriber)
+  }
+
+  def "wraps only the outermost synchronous operator of a chain"() {
+    setup:
+    AtomicReference<CoreSubscriber> subscriber = new AtomicReference<>()
+
+    when:
+    runUnderTrace("parent") {
+      new CapturingMono(subscriber).map { it + 1 }.map { it + 1 }.subscribe()
+    }
+
+    then:
+    // the source is not a known synchronous operator, so its subscriber is wrapped
+    subscriber.get() instanceof TracingSubscriber
+    // the subscriber of the inner map is the outer map, not a TracingSubscriber
+    def innerMap = subscriber.get().subscriber
+    !(innerMap.actual instanceof TracingSubscriber)
+    innerMap.actual.actual instanceof TracingSubscriber
+  }
+
+  def "propagates context across publishOn"() {
+    when:
+    def hasSpan = runUnderTrace("parent") {
+      Mono.just(1)
+        .publishOn(Schedulers.single())
+        .map { it + 1 }
+        .map { Span.current().spanContext.valid }
+        .block()
+    }
+
+    then:
+    hasSpan
+  }
+
+  def "propagates context to operators after Mono.fromFuture"() {
+    setup:
+    def future = new CompletableFuture<Integer>()
+    def hasSpan = new AtomicReference<Boolean>()
+
+    when:
+    runUnderTrace("parent") {
+      Mono.fromFuture(future)
+        .map { it + 1 }
+        .map { Span.current().spanContext.valid }
+        .subscribe { hasSpan.set(it) }
+    }
+    // completed on a thread without any context
+    Thread.start { future.complete(1) }.join()
+
+    then:
+    hasSpan.get()
+  }
+
+  def "propagates context to operators after Mono.create"() {
+    setup:
+    def sink = new AtomicReference<MonoSink<Integer>>()
+    def hasSpan = new AtomicReference<Boolean>()
+
+    when:
+    runUnderTrace("parent") {
+      Mono.create { sink.set(it) }
+        .map { it + 1 }
+        .map { Span.current().spanContext.valid }
+        .subscribe { hasSpan.set(it) }
+    }
+    Thread.start { sink.get().success(1) }.join()
+
+    then:
+    hasSpan.get()
+  }
+
+  def "propagates context to operators after Flux.create"() {
+    setup:
+    def sink = new AtomicReference<FluxSink<Integer>>()
+    def hasSpan = new CopyOnWriteArrayList<Boolean>()
+
+    when:
+    runUnderTrace("parent") {
+      Flux.create { sink.set(it) }
+        .map { it + 1 }
+        .filter { it > 0 }
+        .map { Span.current().spanContext.valid }
+        .subscribe { hasSpan.add(it) }
+    }
+    Thread.start {
+      sink.get().next(1)
+      sink.get().next(2)
+      sink.get().complete()
+    }.join()
+
+    then:
+    hasSpan == [true, true]
+  }
+
+  private static class CapturingMono extends Mono<Integer> {
+    final AtomicReference subscriber
+
+    CapturingMono(AtomicReference subscriber) {
+      this.subscriber = subscriber
+    }
+
+    @Override
+    void subscribe(CoreSubscriber<? super Integer> actual) {
+      subscriber.set(actual)
+    }
+  }
+}
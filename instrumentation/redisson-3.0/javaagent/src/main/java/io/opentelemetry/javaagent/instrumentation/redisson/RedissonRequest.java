@@ -5,16 +5,12 @@
 
 package io.opentelemetry.javaagent.instrumentation.redisson;
 
-import static java.util.Collections.emptyList;
-import static java.util.Collections.singletonList;
-
 import com.google.auto.value.AutoValue;
 import io.netty.buffer.ByteBuf;
 import io.opentelemetry.instrumentation.api.db.RedisCommandSanitizer;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import org.redisson.client.protocol.CommandData;
 import org.redisson.client.protocol.CommandsData;
 
@@ -43,30 +39,44 @@ public abstract class RedissonRequest {
   }
 
   public String getStatement() {
-    List<String> sanitizedStatements = sanitizeStatement();
-    switch (sanitizedStatements.size()) {
-      case 0:
-        return null;
-        // optimize for the most common case
-      case 1:
-        return sanitizedStatements.get(0);
-      default:
-        return String.join(";", sanitizedStatements);
-    }
-  }
-
-  private List<String> sanitizeStatement() {
     Object command = getCommand();
-    // get command
     if (command instanceof CommandsData) {
       List<CommandData<?, ?>> commands = ((CommandsData) command).getCommands();
-      return commands.stream()
-          .map(RedissonRequest::normalizeSingleCommand)
-          .collect(Collectors.toList());
+      switch (commands.size()) {
+        case 0:
+          return null;
+          // optimize for the most common case
+        case 1:
+          return normalizeSingleCommand(commands.get(0));
+        default:
+          return joinStatements(commands);
+      }
     } else if (command instanceof CommandData) {
-      return singletonList(normalizeSingleCommand((CommandData<?, ?>) command));
+      return normalizeSingleCommand((CommandData<?, ?>) command);
+    }
+    return null;
+  }
+
+  // a pipeline can contain any number of commands, the joined statement is cut off just like a
+  // single one and the remaining commands are not rendered at all
+  private static String joinStatements(List<CommandData<?, ?>> commands) {
+    int maxLength = RedisCommandSanitizer.maxStatementLength();
+    StringBuilder statement = new StringBuilder();
+    for (CommandData<?, ?> command : commands) {
+      if (statement.length() > 0) {
+        statement.append(';');
+      }
+      statement.append(normalizeSingleCommand(command));
+      if (statement.length() > maxLength) {
+        // never split a surrogate pair
+        int cutPoint =
+            Character.isHighSurrogate(statement.charAt(maxLength - 1)) ? maxLength - 1 : maxLength;
+        statement.setLength(cutPoint);
+        statement.append("...");
+        break;
+      }
     }
-    return emptyList();
+    return statement.toString();
   }
 
   private static String normalizeSingleCommand(CommandData<?, ?> command) {
@@ -77,19 +87,33 @@ public abstract class RedissonRequest {
     }
     for (Object param : commandParams) {
       if (param instanceof ByteBuf) {
-        try {
-          // slice() does not copy the actual byte buffer, it only returns a readable/writable
-          // "view" of the original buffer (i.e. read and write marks are not shared)
-          ByteBuf buf = ((ByteBuf) param).slice();
-          // state can be null here: no Decoders used by Codecs use it
-          args.add(command.getCodec().getValueDecoder().decode(buf, null));
-        } catch (Exception ignored) {
-          args.add("?");
-        }
+        args.add(toArgument(command, (ByteBuf) param));
       } else {
         args.add(param);
       }
     }
     return RedisCommandSanitizer.sanitize(command.getCommand().getName(), args);
   }
+
+  private static Object toArgument(CommandData<?, ?> command, ByteBuf param) {
+    int length = param.readableBytes();
+    if (length > RedisCommandSanitizer.maxArgumentLength()) {
+      // the sanitizer would cut off (or mask) the value anyway, so it is not deserialized by the
+      // codec; it renders only the first bytes of the buffer, which nioBuffer() does not copy
+      // unless the buffer is composed of several components
+      if (param.nioBufferCount() == 1) {
+        return param.nioBuffer();
+      }
+      return "(" + length + " bytes)";
+    }
+    try {
+      // slice() does not copy the actual byte buffer, it only returns a readable/writable
+      // "view" of the original buffer (i.e. read and write marks are not shared)
+      ByteBuf buf = param.slice();
+      // state can be null here: no Decoders used by Codecs use it
+      return command.getCodec().getValueDecoder().decode(buf, null);
+    } catch (Exception ignored) {
+      return "?";
+    }
+  }
 }
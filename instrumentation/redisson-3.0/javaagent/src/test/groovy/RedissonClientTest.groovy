@@ -125,6 +125,57 @@ class RedissonClientTest extends AgentInstrumentationSpecification {
     }
   }
 
+  def "test oversized values"() {
+    given:
+    // the key is kept in the statement, but only its first bytes are rendered
+    def key = "k" * (4 * 1024 * 1024)
+
+    when:
+    RMap<String, String> rMap = redisson.getMap("bigmap")
+    rMap.get(key)
+    RBatch batch = redisson.createBatch()
+    for (int i = 0; i < 1000; ++i) {
+      batch.getBucket("batch" + i).setAsync("v")
+    }
+    batch.execute()
+
+    then:
+    assertTraces(2) {
+      trace(0, 1) {
+        span(0) {
+          name "HGET"
+          kind CLIENT
+          attributes {
+            "$SemanticAttributes.DB_SYSTEM.key" "redis"
+            "$SemanticAttributes.NET_PEER_IP.key" "127.0.0.1"
+            "$SemanticAttributes.NET_PEER_NAME.key" "localhost"
+            "$SemanticAttributes.NET_PEER_PORT.key" port
+            "$SemanticAttributes.DB_STATEMENT.key" {
+              it.startsWith("HGET bigmap ") && it.length() < 1100
+            }
+            "$SemanticAttributes.DB_OPERATION.key" "HGET"
+          }
+        }
+      }
+      trace(1, 1) {
+        span(0) {
+          name "DB Query"
+          kind CLIENT
+          attributes {
+            "$SemanticAttributes.DB_SYSTEM.key" "redis"
+            "$SemanticAttributes.NET_PEER_IP.key" "127.0.0.1"
+            "$SemanticAttributes.NET_PEER_NAME.key" "localhost"
+            "$SemanticAttributes.NET_PEER_PORT.key" port
+            "$SemanticAttributes.DB_STATEMENT.key" {
+              it.startsWith("SET batch0 ?;SET batch1 ?;") && it.endsWith("...") && it.length() <= 4096 + 3
+            }
+            "$SemanticAttributes.DB_OPERATION.key" null
+          }
+        }
+      }
+    }
+  }
+
   def "test list command"() {
     when:
     RList<String> strings = redisson.getList("list1")
@@ -8,6 +8,7 @@ package io.opentelemetry.javaagent.instrumentation.servlet;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import io.opentelemetry.instrumentation.api.servlet.ServerSpanNaming;
 import io.opentelemetry.instrumentation.servlet.ServletAccessor;
 
 public class ServletHelper<REQUEST, RESPONSE> extends BaseServletHelper<REQUEST, RESPONSE> {
@@ -31,6 +32,12 @@ public class ServletHelper<REQUEST, RESPONSE> extends BaseServletHelper<REQUEST,
       Context context,
       Scope scope) {
 
+    if (topLevel) {
+      // compute the deferred server span name while the request is still valid: servlet containers
+      // may recycle the request or dispatch it to an error page before the server span is ended
+      ServerSpanNaming.resolveDeferredName(Context.current());
+    }
+
     if (scope != null) {
       scope.close();
     }
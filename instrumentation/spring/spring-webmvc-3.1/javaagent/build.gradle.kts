@@ -1,5 +1,6 @@
 plugins {
   id("otel.javaagent-instrumentation")
+  id("org.unbroken-dome.test-sets")
 }
 
 muzzle {
@@ -17,6 +18,14 @@ muzzle {
   }
 }
 
+testSets {
+  // the same tests with deferred server span naming, which must not read the request after the
+  // servlet container dispatched it to an error page or recycled it
+  create("deferredServerSpanNamingTest") {
+    dirName = "test"
+  }
+}
+
 val versions: Map<String, String> by project
 
 dependencies {
@@ -47,7 +56,17 @@ dependencies {
   testImplementation("org.glassfish.jaxb:jaxb-runtime:2.3.2")
 }
 
-tasks.withType<Test>().configureEach {
-  // TODO run tests both with and without experimental span attributes
-  jvmArgs("-Dotel.instrumentation.spring-webmvc.experimental-span-attributes=true")
+tasks {
+  val deferredServerSpanNamingTest by existing(Test::class) {
+    jvmArgs("-Dotel.instrumentation.experimental.deferred-server-span-naming=true")
+  }
+
+  named<Test>("test") {
+    dependsOn(deferredServerSpanNamingTest)
+  }
+
+  withType<Test>().configureEach {
+    // TODO run tests both with and without experimental span attributes
+    jvmArgs("-Dotel.instrumentation.spring-webmvc.experimental-span-attributes=true")
+  }
 }
@@ -5,7 +5,11 @@
 
 package io.opentelemetry.javaagent.instrumentation.springwebmvc;
 
+import static io.opentelemetry.instrumentation.api.servlet.ServerSpanNaming.Source.CONTROLLER;
+
+import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.servlet.ServerSpanNameSupplier;
+import io.opentelemetry.instrumentation.api.servlet.ServerSpanNaming;
 import io.opentelemetry.instrumentation.api.servlet.ServletContextPath;
 import javax.servlet.http.HttpServletRequest;
 import org.springframework.web.servlet.HandlerMapping;
@@ -22,5 +26,23 @@ public class SpringWebMvcServerSpanNaming {
         return null;
       };
 
+  private static final ServerSpanNameSupplier<Object> BEST_MATCHING_PATTERN_SERVER_SPAN_NAME =
+      (context, bestMatchingPattern) ->
+          ServletContextPath.prepend(context, bestMatchingPattern.toString());
+
+  /**
+   * Names the server span based on the matching pattern of the request. The pattern is read from
+   * the request right away, so that only building the name can be deferred: by the time deferred
+   * server span names are resolved, an error dispatch may have overwritten the pattern.
+   */
+  public static void updateServerSpanName(Context context, HttpServletRequest request) {
+    Object bestMatchingPattern =
+        request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    if (bestMatchingPattern != null) {
+      ServerSpanNaming.updateServerSpanName(
+          context, CONTROLLER, BEST_MATCHING_PATTERN_SERVER_SPAN_NAME, bestMatchingPattern);
+    }
+  }
+
   private SpringWebMvcServerSpanNaming() {}
 }
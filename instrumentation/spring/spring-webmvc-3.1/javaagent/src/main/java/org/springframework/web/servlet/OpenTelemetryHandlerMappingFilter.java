@@ -55,7 +55,9 @@ public class OpenTelemetryHandlerMappingFilter implements Filter, Ordered {
 
     if (handlerMappings != null) {
       Context context = Context.current();
-      ServerSpanNaming.updateServerSpanName(
+      // findMapping() must be called at the very beginning of the request (see below), so the name
+      // can't be deferred
+      ServerSpanNaming.updateServerSpanNameEagerly(
           context, CONTROLLER, serverSpanName, (HttpServletRequest) request);
     }
 
@@ -20,21 +20,30 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  *
  * <p>Peer service name mappings can be configured using the {@code
  * otel.instrumentation.common.peer-service-mapping} configuration property. The format used is a
- * comma-separated list of {@code host=name} pairs.
+ * comma-separated list of {@code host=name} pairs, where {@code host} can be an exact host name or
+ * IP address, a wildcard host name ({@code *.example.com}) or a CIDR range ({@code 10.0.0.0/8}),
+ * optionally followed by a port ({@code example.com:8080}, {@code [2001:db8::1]:8080}).
  */
 public final class PeerServiceAttributesExtractor<REQUEST, RESPONSE>
     extends AttributesExtractor<REQUEST, RESPONSE> {
-  private static final Map<String, String> JAVAAGENT_PEER_SERVICE_MAPPING =
-      Config.get().getMap("otel.instrumentation.common.peer-service-mapping");
+  private static final PeerServiceResolver JAVAAGENT_PEER_SERVICE_RESOLVER =
+      PeerServiceResolver.create(
+          Config.get().getMap("otel.instrumentation.common.peer-service-mapping"));
 
-  private final Map<String, String> peerServiceMapping;
+  private final PeerServiceResolver peerServiceResolver;
   private final NetAttributesExtractor<REQUEST, RESPONSE> netAttributesExtractor;
 
   // visible for tests
   PeerServiceAttributesExtractor(
       Map<String, String> peerServiceMapping,
       NetAttributesExtractor<REQUEST, RESPONSE> netAttributesExtractor) {
-    this.peerServiceMapping = peerServiceMapping;
+    this(PeerServiceResolver.create(peerServiceMapping), netAttributesExtractor);
+  }
+
+  private PeerServiceAttributesExtractor(
+      PeerServiceResolver peerServiceResolver,
+      NetAttributesExtractor<REQUEST, RESPONSE> netAttributesExtractor) {
+    this.peerServiceResolver = peerServiceResolver;
     this.netAttributesExtractor = netAttributesExtractor;
   }
 
@@ -45,7 +54,7 @@ public final class PeerServiceAttributesExtractor<REQUEST, RESPONSE>
   public static <REQUEST, RESPONSE> PeerServiceAttributesExtractor<REQUEST, RESPONSE> create(
       NetAttributesExtractor<REQUEST, RESPONSE> netAttributesExtractor) {
     return new PeerServiceAttributesExtractor<>(
-        JAVAAGENT_PEER_SERVICE_MAPPING, netAttributesExtractor);
+        JAVAAGENT_PEER_SERVICE_RESOLVER, netAttributesExtractor);
   }
 
   @Override
@@ -59,21 +68,21 @@ public final class PeerServiceAttributesExtractor<REQUEST, RESPONSE>
       REQUEST request,
       @Nullable RESPONSE response,
       @Nullable Throwable error) {
+    if (peerServiceResolver.isEmpty()) {
+      return;
+    }
+    Integer peerPort =
+        peerServiceResolver.hasPortRules()
+            ? netAttributesExtractor.peerPort(request, response)
+            : null;
     String peerName = netAttributesExtractor.peerName(request, response);
-    String peerService = mapToPeerService(peerName);
+    String peerService = peerServiceResolver.resolve(peerName, peerPort);
     if (peerService == null) {
       String peerIp = netAttributesExtractor.peerIp(request, response);
-      peerService = mapToPeerService(peerIp);
+      peerService = peerServiceResolver.resolve(peerIp, peerPort);
     }
     if (peerService != null) {
       attributes.put(SemanticAttributes.PEER_SERVICE, peerService);
     }
   }
-
-  private String mapToPeerService(String endpoint) {
-    if (endpoint == null) {
-      return null;
-    }
-    return peerServiceMapping.get(endpoint);
-  }
 }
@@ -0,0 +1,471 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.api.instrumenter;
+
+import io.opentelemetry.instrumentation.api.caching.Cache;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Maps peer host names and IP addresses to peer service names. The rules are compiled once into a
+ * trie of reversed host name labels and a binary prefix tree per IP version, and the matches of
+ * every host are cached, so resolving a peer service costs a single cache lookup after warm-up
+ * regardless of the number of rules.
+ *
+ * <p>Supported rule keys:
+ *
+ * <ul>
+ *   <li>{@code example.com} - exact host name, case-insensitive
+ *   <li>{@code *.example.com} - any subdomain of {@code example.com}
+ *   <li>{@code 1.2.3.4}, {@code 2001:db8::1} - exact IP address
+ *   <li>{@code 10.0.0.0/8}, {@code 2001:db8::/32} - CIDR range
+ *   <li>{@code example.com:8080}, {@code 10.0.0.0/8:8080}, {@code [2001:db8::1]:8080} - any of
+ *       the above restricted to a single port; IPv6 addresses and ranges must be put in brackets
+ * </ul>
+ *
+ * <p>When several rules match, the most specific host wins (exact name before the longest
+ * wildcard, the longest CIDR prefix), and for the same host a rule with a matching port wins over
+ * a rule without a port.
+ */
+final class PeerServiceResolver {
+
+  private static final Logger logger = LoggerFactory.getLogger(PeerServiceResolver.class);
+
+  private static final int MAX_CACHE_SIZE = 10_000;
+
+  private final HostNode hostRoot = new HostNode();
+  private final IpNode ipv4Root = new IpNode();
+  private final IpNode ipv6Root = new IpNode();
+  private final Cache<String, Match> cache =
+      Cache.newBuilder().setMaximumSize(MAX_CACHE_SIZE).build();
+  private final Function<String, Match> matcher = this::match;
+  private boolean empty = true;
+  private boolean hasPortRules;
+
+  static PeerServiceResolver create(Map<String, String> peerServiceMapping) {
+    PeerServiceResolver resolver = new PeerServiceResolver();
+    peerServiceMapping.forEach(resolver::addRule);
+    return resolver;
+  }
+
+  private PeerServiceResolver() {}
+
+  boolean isEmpty() {
+    return empty;
+  }
+
+  /** Returns whether any rule is restricted to a port, i.e. whether the peer port is needed. */
+  boolean hasPortRules() {
+    return hasPortRules;
+  }
+
+  @Nullable
+  String resolve(@Nullable String host, @Nullable Integer port) {
+    if (host == null || empty) {
+      return null;
+    }
+    return cache.computeIfAbsent(host, matcher).get(port);
+  }
+
+  private void addRule(String key, String service) {
+    String host = key.trim();
+    Integer port = null;
+    if (host.startsWith("[")) {
+      int close = host.indexOf(']');
+      if (close < 0) {
+        logInvalidRule(key);
+        return;
+      }
+      if (close + 1 < host.length()) {
+        if (host.charAt(close + 1) != ':') {
+          logInvalidRule(key);
+          return;
+        }
+        port = parsePort(host.substring(close + 2));
+        if (port == null) {
+          logInvalidRule(key);
+          return;
+        }
+      }
+      host = host.substring(1, close);
+    } else {
+      int colon = host.indexOf(':');
+      // more than one colon means an IPv6 address without a port
+      if (colon >= 0 && colon == host.lastIndexOf(':')) {
+        port = parsePort(host.substring(colon + 1));
+        if (port == null) {
+          logInvalidRule(key);
+          return;
+        }
+        host = host.substring(0, colon);
+      }
+    }
+
+    Rules rules;
+    int slash = host.indexOf('/');
+    if (slash >= 0) {
+      byte[] address = parseIp(host.substring(0, slash));
+      int prefixLength = parsePrefixLength(host.substring(slash + 1));
+      if (address == null || prefixLength < 0 || prefixLength > address.length * 8) {
+        logInvalidRule(key);
+        return;
+      }
+      rules = addIpRule(address, prefixLength);
+    } else {
+      byte[] address = parseIp(host);
+      if (address != null) {
+        rules = addIpRule(address, address.length * 8);
+      } else if (host.startsWith("*.") && host.length() > 2) {
+        rules = hostNode(host.substring(2)).wildcardRules();
+      } else if (!host.isEmpty()) {
+        rules = hostNode(host).exactRules();
+      } else {
+        logInvalidRule(key);
+        return;
+      }
+    }
+
+    rules.put(port, service);
+    empty = false;
+    if (port != null) {
+      hasPortRules = true;
+    }
+  }
+
+  private static void logInvalidRule(String key) {
+    logger.warn("Ignoring invalid peer service mapping: {}", key);
+  }
+
+  @Nullable
+  private static Integer parsePort(String port) {
+    try {
+      int value = Integer.parseInt(port);
+      return value > 0 && value <= 0xFFFF ? value : null;
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static int parsePrefixLength(String prefixLength) {
+    try {
+      return Integer.parseInt(prefixLength);
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  private HostNode hostNode(String host) {
+    String normalized = normalizeHost(host);
+    HostNode node = hostRoot;
+    int end = normalized.length();
+    while (end > 0) {
+      int dot = normalized.lastIndexOf('.', end - 1);
+      node = node.child(normalized.substring(dot + 1, end));
+      end = dot;
+    }
+    return node;
+  }
+
+  private Rules addIpRule(byte[] address, int prefixLength) {
+    // IPv4-mapped IPv6 addresses and ranges are matched as IPv4
+    if (isIpv4Mapped(address) && prefixLength >= 96) {
+      address = toIpv4(address);
+      prefixLength -= 96;
+    }
+    IpNode node = address.length == 4 ? ipv4Root : ipv6Root;
+    for (int i = 0; i < prefixLength; i++) {
+      node = node.child(bit(address, i));
+    }
+    return node.rules();
+  }
+
+  private Match match(String host) {
+    List<Rules> matches = new ArrayList<>();
+    byte[] address = parseIp(host);
+    if (address != null) {
+      if (isIpv4Mapped(address)) {
+        address = toIpv4(address);
+      }
+      IpNode node = address.length == 4 ? ipv4Root : ipv6Root;
+      for (int i = 0; node != null; i++) {
+        if (node.rules != null) {
+          // longer prefixes are more specific
+          matches.add(0, node.rules);
+        }
+        node = i < address.length * 8 ? node.children[bit(address, i)] : null;
+      }
+    } else {
+      String normalized = normalizeHost(host);
+      HostNode node = hostRoot;
+      int end = normalized.length();
+      while (end > 0) {
+        int dot = normalized.lastIndexOf('.', end - 1);
+        node = node.children == null ? null : node.children.get(normalized.substring(dot + 1, end));
+        if (node == null) {
+          break;
+        }
+        if (dot < 0) {
+          if (node.exact != null) {
+            matches.add(0, node.exact);
+          }
+        } else if (node.wildcard != null) {
+          // longer wildcards are more specific
+          matches.add(0, node.wildcard);
+        }
+        end = dot;
+      }
+    }
+    return matches.isEmpty() ? Match.NONE : new Match(matches.toArray(new Rules[0]));
+  }
+
+  private static String normalizeHost(String host) {
+    String normalized = host.toLowerCase(Locale.ROOT);
+    // fully qualified names may end with a dot
+    if (normalized.endsWith(".")) {
+      normalized = normalized.substring(0, normalized.length() - 1);
+    }
+    return normalized;
+  }
+
+  private static int bit(byte[] address, int index) {
+    return (address[index >> 3] >> (7 - (index & 7))) & 1;
+  }
+
+  private static boolean isIpv4Mapped(byte[] address) {
+    if (address.length != 16) {
+      return false;
+    }
+    for (int i = 0; i < 10; i++) {
+      if (address[i] != 0) {
+        return false;
+      }
+    }
+    return address[10] == (byte) 0xFF && address[11] == (byte) 0xFF;
+  }
+
+  private static byte[] toIpv4(byte[] address) {
+    return new byte[] {address[12], address[13], address[14], address[15]};
+  }
+
+  /**
+   * Parses an IPv4 or IPv6 literal. Unlike {@link java.net.InetAddress#getByName(String)} this
+   * never falls back to a DNS lookup.
+   */
+  // visible for tests
+  @Nullable
+  static byte[] parseIp(String ip) {
+    if (ip.indexOf(':') >= 0) {
+      return parseIpv6(ip);
+    }
+    return parseIpv4(ip, 0, ip.length());
+  }
+
+  @Nullable
+  private static byte[] parseIpv4(String ip, int start, int end) {
+    byte[] address = new byte[4];
+    int part = 0;
+    int value = 0;
+    int digits = 0;
+    for (int i = start; i < end; i++) {
+      char c = ip.charAt(i);
+      if (c == '.') {
+        if (digits == 0 || part == 3) {
+          return null;
+        }
+        address[part++] = (byte) value;
+        value = 0;
+        digits = 0;
+      } else if (c >= '0' && c <= '9') {
+        value = value * 10 + (c - '0');
+        if (++digits > 3 || value > 255) {
+          return null;
+        }
+      } else {
+        return null;
+      }
+    }
+    if (digits == 0 || part != 3) {
+      return null;
+    }
+    address[3] = (byte) value;
+    return address;
+  }
+
+  @Nullable
+  private static byte[] parseIpv6(String ip) {
+    // ignore the zone id, if any
+    int end = ip.indexOf('%');
+    if (end < 0) {
+      end = ip.length();
+    }
+    int[] head = new int[8];
+    int[] tail = new int[8];
+    int headCount;
+    int tailCount = 0;
+    int doubleColon = ip.indexOf("::");
+    if (doubleColon < 0 || doubleColon >= end) {
+      headCount = parseIpv6Groups(ip, 0, end, head);
+      if (headCount != 8) {
+        return null;
+      }
+    } else {
+      headCount = parseIpv6Groups(ip, 0, doubleColon, head);
+      tailCount = parseIpv6Groups(ip, doubleColon + 2, end, tail);
+      if (headCount < 0 || tailCount < 0 || headCount + tailCount > 7) {
+        return null;
+      }
+    }
+    byte[] address = new byte[16];
+    for (int i = 0; i < headCount; i++) {
+      address[2 * i] = (byte) (head[i] >> 8);
+      address[2 * i + 1] = (byte) head[i];
+    }
+    for (int i = 0; i < tailCount; i++) {
+      int index = 8 - tailCount + i;
+      address[2 * index] = (byte) (tail[i] >> 8);
+      address[2 * index + 1] = (byte) tail[i];
+    }
+    return address;
+  }
+
+  // parses colon-separated hex groups, optionally ending with an IPv4 address, into 16-bit words;
+  // returns the number of words or -1 if the groups are invalid
+  private static int parseIpv6Groups(String ip, int start, int end, int[] words) {
+    if (start == end) {
+      return 0;
+    }
+    int count = 0;
+    int groupStart = start;
+    while (true) {
+      int colon = ip.indexOf(':', groupStart);
+      int groupEnd = colon < 0 || colon > end ? end : colon;
+      int dot = ip.indexOf('.', groupStart);
+      if (groupEnd == end && dot >= 0 && dot < end) {
+        byte[] ipv4 = parseIpv4(ip, groupStart, end);
+        if (ipv4 == null || count + 2 > words.length) {
+          return -1;
+        }
+        words[count++] = (ipv4[0] & 0xFF) << 8 | (ipv4[1] & 0xFF);
+        words[count++] = (ipv4[2] & 0xFF) << 8 | (ipv4[3] & 0xFF);
+        return count;
+      }
+      int length = groupEnd - groupStart;
+      if (length < 1 || length > 4 || count == words.length) {
+        return -1;
+      }
+      int word = 0;
+      for (int i = groupStart; i < groupEnd; i++) {
+        int digit = Character.digit(ip.charAt(i), 16);
+        if (digit < 0) {
+          return -1;
+        }
+        word = word << 4 | digit;
+      }
+      words[count++] = word;
+      if (groupEnd == end) {
+        return count;
+      }
+      groupStart = groupEnd + 1;
+    }
+  }
+
+  /** The services of a single host name, IP address or range, with and without port. */
+  private static final class Rules {
+    @Nullable private String service;
+    @Nullable private Map<Integer, String> servicesByPort;
+
+    private void put(@Nullable Integer port, String service) {
+      if (port == null) {
+        this.service = service;
+        return;
+      }
+      if (servicesByPort == null) {
+        servicesByPort = new HashMap<>();
+      }
+      servicesByPort.put(port, service);
+    }
+  }
+
+  /** The rules matching a host, most specific first. */
+  private static final class Match {
+    private static final Match NONE = new Match(new Rules[0]);
+
+    private final Rules[] rules;
+
+    private Match(Rules[] rules) {
+      this.rules = rules;
+    }
+
+    @Nullable
+    private String get(@Nullable Integer port) {
+      for (Rules rule : rules) {
+        if (port != null && rule.servicesByPort != null) {
+          String service = rule.servicesByPort.get(port);
+          if (service != null) {
+            return service;
+          }
+        }
+        if (rule.service != null) {
+          return rule.service;
+        }
+      }
+      return null;
+    }
+  }
+
+  private static final class HostNode {
+    @Nullable private Map<String, HostNode> children;
+    @Nullable private Rules exact;
+    @Nullable private Rules wildcard;
+
+    private HostNode child(String label) {
+      if (children == null) {
+        children = new HashMap<>();
+      }
+      return children.computeIfAbsent(label, unused -> new HostNode());
+    }
+
+    private Rules exactRules() {
+      if (exact == null) {
+        exact = new Rules();
+      }
+      return exact;
+    }
+
+    private Rules wildcardRules() {
+      if (wildcard == null) {
+        wildcard = new Rules();
+      }
+      return wildcard;
+    }
+  }
+
+  private static final class IpNode {
+    private final IpNode[] children = new IpNode[2];
+    @Nullable private Rules rules;
+
+    private IpNode child(int bit) {
+      if (children[bit] == null) {
+        children[bit] = new IpNode();
+      }
+      return children[bit];
+    }
+
+    private Rules rules() {
+      if (rules == null) {
+        rules = new Rules();
+      }
+      return rules;
+    }
+  }
+}
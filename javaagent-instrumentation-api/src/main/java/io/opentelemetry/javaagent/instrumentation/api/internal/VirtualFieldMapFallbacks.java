@@ -0,0 +1,34 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.api.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Counts, per virtual field, the keys whose value was stored in a global weak map because the field
+ * could not be injected into the key class (e.g. because the class had already been loaded when
+ * the agent started). The counters are stored in the bootstrap classloader so that they can be
+ * updated by the generated virtual field implementations.
+ */
+public final class VirtualFieldMapFallbacks {
+
+  private static final ConcurrentMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+  private VirtualFieldMapFallbacks() {}
+
+  /** Returns the counter of the virtual field with passed {@code name}. */
+  public static LongAdder counter(String name) {
+    return counters.computeIfAbsent(name, unused -> new LongAdder());
+  }
+
+  /** Passes the name and the current count of every virtual field to {@code consumer}. */
+  public static void forEach(ObjLongConsumer<String> consumer) {
+    counters.forEach((name, counter) -> consumer.accept(name, counter.sum()));
+  }
+}
@@ -11,6 +11,13 @@ import java.util.Iterator;
 import java.util.Map;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+/**
+ * A path-compressed (radix) trie: chains of nodes that have a single child and no value are merged
+ * into one node whose edge is labelled with the whole chain. Looking up a class name like {@code
+ * org.springframework.boot.SomeClass} therefore compares the long common segments ({@code
+ * rg.springframework.}) with a simple loop over a {@code char[]} instead of doing a child search for
+ * every single character.
+ */
 final class TrieImpl<V> implements Trie<V> {
 
   private final Node<V> root;
@@ -24,12 +31,25 @@ final class TrieImpl<V> implements Trie<V> {
     Node<V> node = root;
     V lastMatchedValue = defaultValue;
 
-    for (int i = 0; i < str.length(); ++i) {
-      char c = str.charAt(i);
-      Node<V> next = node.getNext(c);
+    int length = str.length();
+    int i = 0;
+    while (i < length) {
+      Node<V> next = node.getNext(str.charAt(i));
       if (next == null) {
         return lastMatchedValue;
       }
+      // values are only stored at the end of a segment, a partially matched segment never matches
+      char[] segment = next.segment;
+      if (length - i < segment.length) {
+        return lastMatchedValue;
+      }
+      // the first char was already matched by getNext()
+      for (int j = 1; j < segment.length; ++j) {
+        if (str.charAt(i + j) != segment[j]) {
+          return lastMatchedValue;
+        }
+      }
+      i += segment.length;
       node = next;
       // next node matched, use its value if it's defined
       lastMatchedValue = next.value != null ? next.value : lastMatchedValue;
@@ -39,11 +59,14 @@ final class TrieImpl<V> implements Trie<V> {
   }
 
   static final class Node<V> {
+    final char[] segment;
+    // first chars of the children segments, sorted
     final char[] chars;
     final Node<V>[] children;
     final V value;
 
-    Node(char[] chars, Node<V>[] children, V value) {
+    Node(char[] segment, char[] chars, Node<V>[] children, V value) {
+      this.segment = segment;
       this.chars = chars;
       this.children = children;
       this.value = value;
@@ -51,6 +74,16 @@ final class TrieImpl<V> implements Trie<V> {
 
     @Nullable
     Node<V> getNext(char c) {
+      char[] chars = this.chars;
+      // most nodes have only a handful of children, a linear scan is cheaper than a binary search
+      if (chars.length <= 8) {
+        for (int i = 0; i < chars.length; ++i) {
+          if (chars[i] == c) {
+            return children[i];
+          }
+        }
+        return null;
+      }
       int index = Arrays.binarySearch(chars, c);
       if (index < 0) {
         return null;
@@ -81,7 +114,7 @@ final class TrieImpl<V> implements Trie<V> {
 
     @Override
     public Trie<V> build() {
-      return new TrieImpl<>(root.build());
+      return new TrieImpl<>(root.build(new char[0]));
     }
   }
 
@@ -89,7 +122,7 @@ final class TrieImpl<V> implements Trie<V> {
     final Map<Character, NodeBuilder<V>> children = new HashMap<>();
     V value;
 
-    Node<V> build() {
+    Node<V> build(char[] segment) {
       int size = children.size();
       char[] chars = new char[size];
       Node<V>[] nodes = new Node[size];
@@ -100,10 +133,22 @@ final class TrieImpl<V> implements Trie<V> {
       while (it.hasNext()) {
         Map.Entry<Character, NodeBuilder<V>> e = it.next();
         chars[i] = e.getKey();
-        nodes[i++] = e.getValue().build();
+        nodes[i++] = e.getValue().buildCompressed(e.getKey());
       }
 
-      return new Node<>(chars, nodes, value);
+      return new Node<>(segment, chars, nodes, value);
+    }
+
+    // merges this node with all following nodes that have exactly one child and no value
+    private Node<V> buildCompressed(char firstChar) {
+      StringBuilder segment = new StringBuilder().append(firstChar);
+      NodeBuilder<V> last = this;
+      while (last.value == null && last.children.size() == 1) {
+        Map.Entry<Character, NodeBuilder<V>> only = last.children.entrySet().iterator().next();
+        segment.append(only.getKey().charValue());
+        last = only.getValue();
+      }
+      return last.build(segment.toString().toCharArray());
     }
   }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.api.instrumenter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class PeerServiceResolverTest {
+
+  @Test
+  void hostNames() {
+    Map<String, String> mapping = new HashMap<>();
+    mapping.put("example.com", "example");
+    mapping.put("*.payments.internal", "payments");
+    mapping.put("*.eu.payments.internal", "payments-eu");
+
+    PeerServiceResolver resolver = PeerServiceResolver.create(mapping);
+
+    assertThat(resolver.resolve("example.com", null)).isEqualTo("example");
+    assertThat(resolver.resolve("Example.COM.", null)).isEqualTo("example");
+    assertThat(resolver.resolve("www.example.com", null)).isNull();
+    assertThat(resolver.resolve("payments.internal", null)).isNull();
+    assertThat(resolver.resolve("api.payments.internal", null)).isEqualTo("payments");
+    assertThat(resolver.resolve("api.eu.payments.internal", null)).isEqualTo("payments-eu");
+    assertThat(resolver.resolve("other.internal", null)).isNull();
+    assertThat(resolver.resolve(null, null)).isNull();
+  }
+
+  @Test
+  void ipAddresses() {
+    Map<String, String> mapping = new HashMap<>();
+    mapping.put("1.2.3.4", "exact");
+    mapping.put("10.0.0.0/8", "ten");
+    mapping.put("10.1.0.0/16", "ten-one");
+    mapping.put("2001:db8::/32", "v6");
+    mapping.put("2001:db8::1", "v6-exact");
+
+    PeerServiceResolver resolver = PeerServiceResolver.create(mapping);
+
+    assertThat(resolver.resolve("1.2.3.4", null)).isEqualTo("exact");
+    assertThat(resolver.resolve("1.2.3.5", null)).isNull();
+    assertThat(resolver.resolve("10.200.0.1", null)).isEqualTo("ten");
+    assertThat(resolver.resolve("10.1.0.1", null)).isEqualTo("ten-one");
+    assertThat(resolver.resolve("::ffff:10.1.0.1", null)).isEqualTo("ten-one");
+    assertThat(resolver.resolve("11.0.0.1", null)).isNull();
+    assertThat(resolver.resolve("2001:db8:0:0:0:0:0:1", null)).isEqualTo("v6-exact");
+    assertThat(resolver.resolve("2001:db8::2", null)).isEqualTo("v6");
+    assertThat(resolver.resolve("2002::1", null)).isNull();
+  }
+
+  @Test
+  void ports() {
+    Map<String, String> mapping = new HashMap<>();
+    mapping.put("*.payments.internal", "payments");
+    mapping.put("api.payments.internal:8443", "payments-api");
+    mapping.put("10.0.0.0/8:9090", "ten-metrics");
+    mapping.put("[2001:db8::1]:80", "v6-http");
+
+    PeerServiceResolver resolver = PeerServiceResolver.create(mapping);
+
+    assertThat(resolver.hasPortRules()).isTrue();
+    assertThat(resolver.resolve("api.payments.internal", 8443)).isEqualTo("payments-api");
+    assertThat(resolver.resolve("api.payments.internal", 443)).isEqualTo("payments");
+    assertThat(resolver.resolve("api.payments.internal", null)).isEqualTo("payments");
+    assertThat(resolver.resolve("10.1.2.3", 9090)).isEqualTo("ten-metrics");
+    assertThat(resolver.resolve("10.1.2.3", 80)).isNull();
+    assertThat(resolver.resolve("2001:db8::1", 80)).isEqualTo("v6-http");
+  }
+
+  @Test
+  void invalidRulesAreIgnored() {
+    Map<String, String> mapping = new HashMap<>();
+    mapping.put("example.com:http", "invalid");
+    mapping.put("10.0.0.0/33", "invalid");
+    mapping.put("[2001:db8::1", "invalid");
+
+    PeerServiceResolver resolver = PeerServiceResolver.create(mapping);
+
+    assertThat(resolver.isEmpty()).isTrue();
+    assertThat(resolver.resolve("example.com", null)).isNull();
+  }
+}
@@ -33,6 +33,24 @@ class TrieTest {
     assertEquals(20, trie.getOrNull("abcdfghjkl"));
   }
 
+  @Test
+  void shouldNotMatchPartialSegment() {
+    Trie<Integer> trie =
+        Trie.<Integer>newBuilder()
+            .put("org.springframework.", 0)
+            .put("org.springframework.boot.", 10)
+            .put("org.slf4j.", 20)
+            .build();
+
+    assertNull(trie.getOrNull("org.spring"));
+    assertNull(trie.getOrNull("org.springframeworx.Foo"));
+    assertEquals(0, trie.getOrNull("org.springframework.bo"));
+    assertEquals(0, trie.getOrNull("org.springframework.bootx"));
+    assertEquals(10, trie.getOrNull("org.springframework.boot.SpringApplication"));
+    assertEquals(20, trie.getOrNull("org.slf4j.Logger"));
+    assertNull(trie.getOrNull("org.s"));
+  }
+
   @Test
   void shouldOverwritePreviousValue() {
     Trie<Integer> trie = Trie.<Integer>newBuilder().put("abc", 0).put("abc", 12).build();
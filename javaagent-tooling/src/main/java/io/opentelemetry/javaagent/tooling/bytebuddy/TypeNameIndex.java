@@ -0,0 +1,281 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.bytebuddy;
+
+import io.opentelemetry.javaagent.instrumentation.api.util.Trie;
+import java.lang.reflect.Field;
+import java.security.ProtectionDomain;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.matcher.NameMatcher;
+import net.bytebuddy.matcher.StringMatcher;
+import net.bytebuddy.matcher.StringSetMatcher;
+import net.bytebuddy.utility.JavaModule;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An index of the type names that the registered type matchers can possibly match.
+ *
+ * <p>Most type instrumentations match types by their exact name ({@code named()}, {@code
+ * namedOneOf()}) or a name prefix ({@code nameStartsWith()}). When a type matcher is registered the
+ * exact names and prefixes are extracted from it and stored in a hash map and a {@link Trie}; a
+ * single lookup then tells which of the name-restricted matchers can match a given type, so that
+ * all the others can be skipped without running their (fail-safe wrapped) matchers and class loader
+ * matchers. Matchers that are not name-restricted (e.g. hierarchy-based matchers) are never
+ * skipped.
+ *
+ * <p>All matchers are registered while the {@link AgentBuilder} is being assembled, before any type
+ * is matched.
+ */
+public final class TypeNameIndex {
+
+  private static final Logger logger = LoggerFactory.getLogger(TypeNameIndex.class);
+
+  private static final BitSet NO_CANDIDATES = new BitSet();
+
+  private final Map<String, BitSet> exactNames = new HashMap<>();
+  private final Map<String, BitSet> prefixes = new HashMap<>();
+  private volatile Trie<BitSet> prefixTrie = Trie.<BitSet>newBuilder().build();
+  private int nextId = 0;
+
+  // ByteBuddy evaluates all transformations for a given type one after another on the same thread,
+  // remember the candidates of the last looked up type so that the index is queried once per type
+  private final ThreadLocal<Lookup> lastLookup = ThreadLocal.withInitial(Lookup::new);
+
+  /**
+   * Returns a {@link AgentBuilder.RawMatcher} that first checks the index and only then calls the
+   * passed type and class loader matchers. The name restriction is extracted from {@code
+   * typeMatcher}, while {@code delegateTypeMatcher} (usually a fail-safe wrapper of {@code
+   * typeMatcher}) is the one actually used for matching. If no name restriction can be extracted the
+   * delegate matchers are returned unchanged.
+   */
+  public AgentBuilder.RawMatcher indexedMatcher(
+      ElementMatcher<? super TypeDescription> typeMatcher,
+      ElementMatcher<? super TypeDescription> delegateTypeMatcher,
+      ElementMatcher<? super ClassLoader> classLoaderMatcher) {
+    AgentBuilder.RawMatcher delegate =
+        new AgentBuilder.RawMatcher.ForElementMatchers(delegateTypeMatcher, classLoaderMatcher);
+
+    NameRestriction restriction = NameRestriction.extract(typeMatcher);
+    if (restriction == null) {
+      return delegate;
+    }
+    int id = register(restriction);
+    return new IndexedRawMatcher(this, id, delegate);
+  }
+
+  private int register(NameRestriction restriction) {
+    int id = nextId++;
+    for (String name : restriction.exactNames) {
+      exactNames.computeIfAbsent(name, k -> new BitSet()).set(id);
+    }
+    if (!restriction.prefixes.isEmpty()) {
+      for (String prefix : restriction.prefixes) {
+        prefixes.computeIfAbsent(prefix, k -> new BitSet()).set(id);
+      }
+      prefixTrie = buildPrefixTrie(prefixes);
+    }
+    return id;
+  }
+
+  // the trie only returns the value of the longest matching prefix, so each prefix has to include
+  // the ids of all shorter prefixes of it too
+  private static Trie<BitSet> buildPrefixTrie(Map<String, BitSet> prefixes) {
+    Trie.Builder<BitSet> builder = Trie.newBuilder();
+    for (Map.Entry<String, BitSet> entry : prefixes.entrySet()) {
+      BitSet ids = (BitSet) entry.getValue().clone();
+      for (Map.Entry<String, BitSet> other : prefixes.entrySet()) {
+        if (entry.getKey().startsWith(other.getKey())) {
+          ids.or(other.getValue());
+        }
+      }
+      builder.put(entry.getKey(), ids);
+    }
+    return builder.build();
+  }
+
+  boolean mayMatch(int id, String typeName) {
+    Lookup lookup = lastLookup.get();
+    if (!typeName.equals(lookup.typeName)) {
+      lookup.candidates = candidates(typeName);
+      lookup.typeName = typeName;
+    }
+    return lookup.candidates.get(id);
+  }
+
+  private BitSet candidates(String typeName) {
+    BitSet exact = exactNames.get(typeName);
+    BitSet prefixed = prefixTrie.getOrNull(typeName);
+    if (exact == null) {
+      return prefixed == null ? NO_CANDIDATES : prefixed;
+    }
+    if (prefixed == null) {
+      return exact;
+    }
+    BitSet both = (BitSet) exact.clone();
+    both.or(prefixed);
+    return both;
+  }
+
+  private static final class Lookup {
+    @Nullable String typeName;
+    BitSet candidates = NO_CANDIDATES;
+  }
+
+  private static final class IndexedRawMatcher implements AgentBuilder.RawMatcher {
+    private final TypeNameIndex index;
+    private final int id;
+    private final AgentBuilder.RawMatcher delegate;
+
+    private IndexedRawMatcher(TypeNameIndex index, int id, AgentBuilder.RawMatcher delegate) {
+      this.index = index;
+      this.id = id;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public boolean matches(
+        TypeDescription typeDescription,
+        ClassLoader classLoader,
+        JavaModule module,
+        Class<?> classBeingRedefined,
+        ProtectionDomain protectionDomain) {
+      return index.mayMatch(id, typeDescription.getName())
+          && delegate.matches(
+              typeDescription, classLoader, module, classBeingRedefined, protectionDomain);
+    }
+  }
+
+  /** The exact names and name prefixes that a type matcher is restricted to. */
+  static final class NameRestriction {
+    // ByteBuddy does not expose the contents of its matchers, read them reflectively
+    @Nullable private static final Field NAME_MATCHER = field(NameMatcher.class, "matcher");
+
+    @Nullable
+    private static final Field STRING_MATCHER_VALUE = field(StringMatcher.class, "value");
+
+    @Nullable
+    private static final Field STRING_MATCHER_MODE = field(StringMatcher.class, "mode");
+
+    @Nullable
+    private static final Field STRING_SET_MATCHER_VALUES = field(StringSetMatcher.class, "values");
+
+    @Nullable
+    private static final Field CONJUNCTION_MATCHERS =
+        field(ElementMatcher.Junction.Conjunction.class, "matchers");
+
+    @Nullable
+    private static final Field DISJUNCTION_MATCHERS =
+        field(ElementMatcher.Junction.Disjunction.class, "matchers");
+
+    final Set<String> exactNames;
+    final Set<String> prefixes;
+
+    private NameRestriction(Set<String> exactNames, Set<String> prefixes) {
+      this.exactNames = exactNames;
+      this.prefixes = prefixes;
+    }
+
+    /**
+     * Returns the names the passed matcher is restricted to, or {@code null} if it can match types
+     * of any name.
+     */
+    @Nullable
+    static NameRestriction extract(ElementMatcher<?> matcher) {
+      try {
+        return doExtract(matcher);
+      } catch (Throwable t) {
+        logger.debug("Failed to extract type names from matcher {}", matcher, t);
+        return null;
+      }
+    }
+
+    @Nullable
+    private static NameRestriction doExtract(ElementMatcher<?> matcher)
+        throws IllegalAccessException {
+      if (matcher instanceof NameMatcher && NAME_MATCHER != null) {
+        return fromStringMatcher(NAME_MATCHER.get(matcher));
+      }
+      if (matcher instanceof ElementMatcher.Junction.Conjunction && CONJUNCTION_MATCHERS != null) {
+        // any name restriction of a conjunction restricts the whole conjunction
+        for (ElementMatcher<?> child : matchers(CONJUNCTION_MATCHERS.get(matcher))) {
+          NameRestriction restriction = doExtract(child);
+          if (restriction != null) {
+            return restriction;
+          }
+        }
+        return null;
+      }
+      if (matcher instanceof ElementMatcher.Junction.Disjunction && DISJUNCTION_MATCHERS != null) {
+        // a disjunction is only restricted if all of its parts are
+        Set<String> exactNames = new HashSet<>();
+        Set<String> prefixes = new HashSet<>();
+        for (ElementMatcher<?> child : matchers(DISJUNCTION_MATCHERS.get(matcher))) {
+          NameRestriction restriction = doExtract(child);
+          if (restriction == null) {
+            return null;
+          }
+          exactNames.addAll(restriction.exactNames);
+          prefixes.addAll(restriction.prefixes);
+        }
+        return new NameRestriction(exactNames, prefixes);
+      }
+      return null;
+    }
+
+    @Nullable
+    private static NameRestriction fromStringMatcher(Object matcher)
+        throws IllegalAccessException {
+      if (matcher instanceof StringMatcher
+          && STRING_MATCHER_VALUE != null
+          && STRING_MATCHER_MODE != null) {
+        String value = (String) STRING_MATCHER_VALUE.get(matcher);
+        Object mode = STRING_MATCHER_MODE.get(matcher);
+        if (mode == StringMatcher.Mode.EQUALS_FULLY) {
+          return new NameRestriction(Collections.singleton(value), Collections.emptySet());
+        }
+        if (mode == StringMatcher.Mode.STARTS_WITH) {
+          return new NameRestriction(Collections.emptySet(), Collections.singleton(value));
+        }
+        return null;
+      }
+      if (matcher instanceof StringSetMatcher && STRING_SET_MATCHER_VALUES != null) {
+        @SuppressWarnings("unchecked")
+        Collection<String> values = (Collection<String>) STRING_SET_MATCHER_VALUES.get(matcher);
+        return new NameRestriction(new HashSet<>(values), Collections.emptySet());
+      }
+      return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<ElementMatcher<?>> matchers(Object matchers) {
+      return (List<ElementMatcher<?>>) matchers;
+    }
+
+    @Nullable
+    private static Field field(Class<?> type, String name) {
+      try {
+        Field field = type.getDeclaredField(name);
+        field.setAccessible(true);
+        return field;
+      } catch (Throwable t) {
+        logger.debug("Field {} not found in {}, type name index disabled for it", name, type, t);
+        return null;
+      }
+    }
+  }
+}
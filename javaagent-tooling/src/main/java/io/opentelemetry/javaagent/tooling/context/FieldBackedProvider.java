@@ -15,6 +15,7 @@ import io.opentelemetry.instrumentation.api.config.Config;
 import io.opentelemetry.instrumentation.api.field.VirtualField;
 import io.opentelemetry.javaagent.bootstrap.FieldBackedContextStoreAppliedMarker;
 import io.opentelemetry.javaagent.bootstrap.InstrumentationHolder;
+import io.opentelemetry.javaagent.instrumentation.api.internal.VirtualFieldMapFallbacks;
 import io.opentelemetry.javaagent.tooling.HelperInjector;
 import io.opentelemetry.javaagent.tooling.TransformSafeLogger;
 import io.opentelemetry.javaagent.tooling.Utils;
@@ -32,6 +33,7 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.ClassFileVersion;
@@ -345,13 +347,15 @@ public class FieldBackedProvider implements InstrumentationContextProvider {
           DynamicType.Builder<?> builder,
           TypeDescription typeDescription,
           ClassLoader classLoader,
-          JavaModule module) {
+          JavaModule module,
+          ProtectionDomain protectionDomain) {
         return injector.transform(
             builder,
             typeDescription,
             // context store implementation classes will always go to the bootstrap
             null,
-            module);
+            module,
+            protectionDomain);
       }
     };
   }
@@ -678,9 +682,6 @@ public class FieldBackedProvider implements InstrumentationContextProvider {
             } else if ("realPut".equals(name)) {
               generateRealPutMethod(name);
               return null;
-            } else if ("realSynchronizeInstance".equals(name)) {
-              generateRealSynchronizeInstanceMethod(name);
-              return null;
             } else {
               return super.visitMethod(access, name, descriptor, signature, exceptions);
             }
@@ -799,53 +800,6 @@ public class FieldBackedProvider implements InstrumentationContextProvider {
             mv.visitEnd();
           }
 
-          /**
-           * Provides implementation for {@code realSynchronizeInstance} method that looks like
-           * below.
-           *
-           * <blockquote>
-           *
-           * <pre>
-           * private Object realSynchronizeInstance(final Object key) {
-           *   if (key instanceof $accessorInterfaceInternalName) {
-           *     return key;
-           *   } else {
-           *     return mapSynchronizeInstance(key);
-           *   }
-           * }
-           * </pre>
-           *
-           * </blockquote>
-           *
-           * @param name name of the method being visited
-           */
-          private void generateRealSynchronizeInstanceMethod(String name) {
-            MethodVisitor mv = getMethodVisitor(name);
-            mv.visitCode();
-            mv.visitVarInsn(Opcodes.ALOAD, 1);
-            mv.visitTypeInsn(Opcodes.INSTANCEOF, accessorInterfaceInternalName);
-            Label elseLabel = new Label();
-            mv.visitJumpInsn(Opcodes.IFEQ, elseLabel);
-            mv.visitVarInsn(Opcodes.ALOAD, 1);
-            mv.visitInsn(Opcodes.ARETURN);
-            mv.visitLabel(elseLabel);
-            if (frames) {
-              mv.visitFrame(Opcodes.F_SAME, 0, null, 0, null);
-            }
-            mv.visitVarInsn(Opcodes.ALOAD, 0);
-            mv.visitVarInsn(Opcodes.ALOAD, 1);
-            mv.visitMethodInsn(
-                Opcodes.INVOKESPECIAL,
-                instrumentedTypeInternalName,
-                "mapSynchronizeInstance",
-                Utils.getMethodDefinition(instrumentedType, "mapSynchronizeInstance")
-                    .getDescriptor(),
-                /* isInterface= */ false);
-            mv.visitInsn(Opcodes.ARETURN);
-            mv.visitMaxs(0, 0);
-            mv.visitEnd();
-          }
-
           private MethodVisitor getMethodVisitor(String methodName) {
             return cv.visitMethod(
                 Opcodes.ACC_PRIVATE,
@@ -867,13 +821,27 @@ public class FieldBackedProvider implements InstrumentationContextProvider {
   @SuppressWarnings({"UnusedMethod", "UnusedVariable", "MethodCanBeStatic"})
   private static final class VirtualFieldImplementationTemplate
       extends VirtualField<Object, Object> {
+    // computeIfNull() locks one of these instead of the key itself, which is an application object
+    // that may be used as a monitor by the application too
+    private static final int LOCK_STRIPES = 64;
+    private static final Object[] LOCKS = new Object[LOCK_STRIPES];
+
+    static {
+      for (int i = 0; i < LOCK_STRIPES; i++) {
+        LOCKS[i] = new Object();
+      }
+    }
+
     private static final VirtualFieldImplementationTemplate INSTANCE =
         new VirtualFieldImplementationTemplate(Cache.newBuilder().setWeakKeys().build());
 
     private final Cache<Object, Object> map;
+    private final LongAdder mapFallbacks;
 
     private VirtualFieldImplementationTemplate(Cache<Object, Object> map) {
       this.map = map;
+      // the name of the generated class identifies the key and field classes
+      this.mapFallbacks = VirtualFieldMapFallbacks.counter(getClass().getName());
     }
 
     @Override
@@ -887,7 +855,7 @@ public class FieldBackedProvider implements InstrumentationContextProvider {
       if (null != existingContext) {
         return existingContext;
       }
-      synchronized (realSynchronizeInstance(object)) {
+      synchronized (lockFor(object)) {
         existingContext = realGet(object);
         if (null != existingContext) {
           return existingContext;
@@ -912,11 +880,6 @@ public class FieldBackedProvider implements InstrumentationContextProvider {
       // to be generated
     }
 
-    private Object realSynchronizeInstance(Object key) {
-      // to be generated
-      return null;
-    }
-
     private Object mapGet(Object key) {
       return map.get(key);
     }
@@ -925,12 +888,19 @@ public class FieldBackedProvider implements InstrumentationContextProvider {
       if (value == null) {
         map.remove(key);
       } else {
+        // only keys that were not in the map yet are counted, replacing a value is not a new
+        // fallback; concurrent first puts for the same key may rarely be counted twice
+        boolean newKey = map.get(key) == null;
         map.put(key, value);
+        if (newKey) {
+          mapFallbacks.increment();
+        }
       }
     }
 
-    private Object mapSynchronizeInstance(Object key) {
-      return map;
+    private static Object lockFor(Object key) {
+      int hash = System.identityHashCode(key);
+      return LOCKS[(hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1)];
     }
 
     public static VirtualField getContextStore(Class keyClass, Class contextClass) {
@@ -987,7 +957,8 @@ public class FieldBackedProvider implements InstrumentationContextProvider {
   }
 
   private static AgentBuilder.Transformer getTransformerForAsmVisitor(AsmVisitorWrapper visitor) {
-    return (builder, typeDescription, classLoader, module) -> builder.visit(visitor);
+    return (builder, typeDescription, classLoader, module, protectionDomain) ->
+        builder.visit(visitor);
   }
 
   private static String getContextStoreImplementationClassName(
@@ -1030,7 +1001,8 @@ public class FieldBackedProvider implements InstrumentationContextProvider {
         DynamicType.Builder<?> builder,
         TypeDescription typeDescription,
         ClassLoader classLoader,
-        JavaModule module) {
+        JavaModule module,
+        ProtectionDomain protectionDomain) {
       return builder;
     }
   }
@@ -0,0 +1,49 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.context;
+
+import com.google.auto.service.AutoService;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.GlobalMeterProvider;
+import io.opentelemetry.instrumentation.api.config.Config;
+import io.opentelemetry.javaagent.extension.AgentListener;
+import io.opentelemetry.javaagent.instrumentation.api.internal.VirtualFieldMapFallbacks;
+
+/**
+ * An {@link AgentListener} that reports for how many keys virtual field values were stored in the
+ * global weak map instead of in a field injected into the key class.
+ */
+@AutoService(AgentListener.class)
+public class VirtualFieldMetricsInstaller implements AgentListener {
+
+  private static final AttributeKey<String> VIRTUAL_FIELD_KEY = AttributeKey.stringKey("field");
+
+  private static final String CONTEXT_STORE_CLASS_INFIX = "$ContextStore$";
+
+  @Override
+  public void afterAgent(Config config) {
+    GlobalMeterProvider.get()
+        .get("io.opentelemetry.javaagent.virtual-field")
+        .gaugeBuilder("otel.javaagent.virtual_field.map_fallbacks")
+        .ofLongs()
+        .setDescription(
+            "The number of keys whose virtual field value was stored in a map because the field"
+                + " could not be injected into the key class.")
+        .setUnit("keys")
+        .buildWithCallback(
+            result ->
+                VirtualFieldMapFallbacks.forEach(
+                    (className, count) -> {
+                      int index = className.indexOf(CONTEXT_STORE_CLASS_INFIX);
+                      if (index != -1) {
+                        String field =
+                            className.substring(index + CONTEXT_STORE_CLASS_INFIX.length());
+                        result.observe(count, Attributes.of(VIRTUAL_FIELD_KEY, field));
+                      }
+                    }));
+  }
+}
@@ -67,6 +67,8 @@ public class GlobalIgnoredTypesConfigurer implements IgnoredTypesConfigurer {
         .allowClass("java.lang.reflect.Proxy")
         .allowClass("java.lang.ClassLoader")
         .allowClass("java.lang.invoke.InnerClassLambdaMetafactory")
+        // JDK 21+, see VirtualThreadInstrumentation
+        .allowClass("java.lang.VirtualThread")
         // Concurrent instrumentation modifies the structure of
         // Cleaner class incompatibly with java9+ modules.
         // Working around until a long-term fix for modules can be
@@ -130,6 +132,13 @@ public class GlobalIgnoredTypesConfigurer implements IgnoredTypesConfigurer {
     // we should not propagate onto this management thread.
     builder.ignoreTaskClass("java.util.concurrent.ThreadPoolExecutor$Worker");
 
+    // Virtual threads resubmit their continuation to the carrier thread scheduler every time they
+    // are unparked. The context is propagated to the virtual thread itself when it is started (the
+    // java.lang.VirtualThread type is allowed above for that), the continuation tasks (and the
+    // VirtualThread lambdas wrapping them) must not capture whatever context happens to be current
+    // when they are scheduled.
+    builder.ignoreTaskClass("java.lang.VirtualThread");
+
     // TODO Workaround for
     // https://github.com/open-telemetry/opentelemetry-java-instrumentation/issues/787
     builder.ignoreTaskClass("org.apache.tomcat.util.net.NioEndpoint$SocketProcessor");
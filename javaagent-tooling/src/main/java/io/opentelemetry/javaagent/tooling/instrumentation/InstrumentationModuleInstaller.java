@@ -10,6 +10,8 @@ import static net.bytebuddy.matcher.ElementMatchers.isAnnotatedWith;
 import static net.bytebuddy.matcher.ElementMatchers.named;
 import static net.bytebuddy.matcher.ElementMatchers.not;
 
+import io.opentelemetry.instrumentation.api.InstrumentationVersion;
+import io.opentelemetry.instrumentation.api.config.Config;
 import io.opentelemetry.instrumentation.api.internal.RuntimeVirtualFieldSupplier;
 import io.opentelemetry.javaagent.extension.instrumentation.InstrumentationModule;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
@@ -17,6 +19,7 @@ import io.opentelemetry.javaagent.tooling.HelperInjector;
 import io.opentelemetry.javaagent.tooling.TransformSafeLogger;
 import io.opentelemetry.javaagent.tooling.Utils;
 import io.opentelemetry.javaagent.tooling.bytebuddy.LoggingFailSafeMatcher;
+import io.opentelemetry.javaagent.tooling.bytebuddy.TypeNameIndex;
 import io.opentelemetry.javaagent.tooling.context.FieldBackedProvider;
 import io.opentelemetry.javaagent.tooling.context.InstrumentationContextProvider;
 import io.opentelemetry.javaagent.tooling.context.NoopContextProvider;
@@ -25,8 +28,10 @@ import io.opentelemetry.javaagent.tooling.muzzle.HelperResourceBuilderImpl;
 import io.opentelemetry.javaagent.tooling.muzzle.InstrumentationContextBuilderImpl;
 import io.opentelemetry.javaagent.tooling.muzzle.InstrumentationModuleMuzzle;
 import io.opentelemetry.javaagent.tooling.muzzle.Mismatch;
+import io.opentelemetry.javaagent.tooling.muzzle.MuzzleDecisionCache;
 import io.opentelemetry.javaagent.tooling.muzzle.ReferenceMatcher;
 import java.lang.instrument.Instrumentation;
+import java.nio.file.Paths;
 import java.security.ProtectionDomain;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -35,6 +40,7 @@ import net.bytebuddy.description.annotation.AnnotationSource;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.utility.JavaModule;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,7 +48,15 @@ public final class InstrumentationModuleInstaller {
   private static final TransformSafeLogger logger =
       TransformSafeLogger.getLogger(InstrumentationModule.class);
   private static final Logger muzzleLogger = LoggerFactory.getLogger("muzzleMatcher");
+
+  private static final String TYPE_NAME_INDEX_ENABLED_CONFIG =
+      "otel.javaagent.experimental.type-name-index.enabled";
+  private static final String MUZZLE_CACHE_FILE_CONFIG =
+      "otel.javaagent.experimental.muzzle-cache.file";
+
   private final Instrumentation instrumentation;
+  @Nullable private final TypeNameIndex typeNameIndex;
+  @Nullable private final MuzzleDecisionCache muzzleDecisionCache;
 
   // Added here instead of AgentInstaller's ignores because it's relatively
   // expensive. https://github.com/DataDog/dd-trace-java/pull/1045
@@ -51,6 +65,27 @@ public final class InstrumentationModuleInstaller {
 
   public InstrumentationModuleInstaller(Instrumentation instrumentation) {
     this.instrumentation = instrumentation;
+    this.typeNameIndex =
+        Config.get().getBoolean(TYPE_NAME_INDEX_ENABLED_CONFIG, true) ? new TypeNameIndex() : null;
+    this.muzzleDecisionCache = createMuzzleDecisionCache(Config.get());
+  }
+
+  @Nullable
+  private static MuzzleDecisionCache createMuzzleDecisionCache(Config config) {
+    String file = config.getString(MUZZLE_CACHE_FILE_CONFIG);
+    if (file == null) {
+      return null;
+    }
+    String agentVersion = InstrumentationVersion.VERSION;
+    if (agentVersion == null) {
+      // without the agent version, decisions of a different agent build could be reused
+      logger.warn("Muzzle decision cache is disabled: the agent version is unknown");
+      return null;
+    }
+    MuzzleDecisionCache cache = MuzzleDecisionCache.load(Paths.get(file), agentVersion);
+    // decisions are only written when the JVM exits, the next start will reuse them
+    Runtime.getRuntime().addShutdownHook(new Thread(cache::save, "otel-muzzle-cache-writer"));
+    return cache;
   }
 
   AgentBuilder install(
@@ -75,7 +110,7 @@ public final class InstrumentationModuleInstaller {
 
     ElementMatcher.Junction<ClassLoader> moduleClassLoaderMatcher =
         instrumentationModule.classLoaderMatcher();
-    MuzzleMatcher muzzleMatcher = new MuzzleMatcher(instrumentationModule);
+    MuzzleMatcher muzzleMatcher = new MuzzleMatcher(instrumentationModule, muzzleDecisionCache);
     AgentBuilder.Transformer helperInjector =
         new HelperInjector(
             instrumentationModule.instrumentationName(),
@@ -88,17 +123,27 @@ public final class InstrumentationModuleInstaller {
 
     AgentBuilder agentBuilder = parentAgentBuilder;
     for (TypeInstrumentation typeInstrumentation : typeInstrumentations) {
+      ElementMatcher<TypeDescription> typeMatcher = typeInstrumentation.typeMatcher();
+      ElementMatcher<TypeDescription> failSafeTypeMatcher =
+          new LoggingFailSafeMatcher<>(
+              typeMatcher, "Instrumentation type matcher unexpected exception: " + typeMatcher);
+      ElementMatcher<ClassLoader> failSafeClassLoaderMatcher =
+          new LoggingFailSafeMatcher<>(
+              moduleClassLoaderMatcher.and(typeInstrumentation.classLoaderOptimization()),
+              "Instrumentation class loader matcher unexpected exception: "
+                  + typeInstrumentation.classLoaderOptimization());
+      AgentBuilder.Identified.Narrowable narrowableAgentBuilder;
+      if (typeNameIndex != null) {
+        // the names are extracted from the original matcher, the fail-safe wrapper hides them
+        narrowableAgentBuilder =
+            agentBuilder.type(
+                typeNameIndex.indexedMatcher(
+                    typeMatcher, failSafeTypeMatcher, failSafeClassLoaderMatcher));
+      } else {
+        narrowableAgentBuilder = agentBuilder.type(failSafeTypeMatcher, failSafeClassLoaderMatcher);
+      }
       AgentBuilder.Identified.Extendable extendableAgentBuilder =
-          agentBuilder
-              .type(
-                  new LoggingFailSafeMatcher<>(
-                      typeInstrumentation.typeMatcher(),
-                      "Instrumentation type matcher unexpected exception: "
-                          + typeInstrumentation.typeMatcher()),
-                  new LoggingFailSafeMatcher<>(
-                      moduleClassLoaderMatcher.and(typeInstrumentation.classLoaderOptimization()),
-                      "Instrumentation class loader matcher unexpected exception: "
-                          + typeInstrumentation.classLoaderOptimization()))
+          narrowableAgentBuilder
               .and(NOT_DECORATOR_MATCHER)
               .and(muzzleMatcher)
               .transform(ConstantAdjuster.instance())
@@ -153,11 +198,15 @@ public final class InstrumentationModuleInstaller {
    */
   private static class MuzzleMatcher implements AgentBuilder.RawMatcher {
     private final InstrumentationModule instrumentationModule;
+    @Nullable private final MuzzleDecisionCache muzzleDecisionCache;
     private final AtomicBoolean initialized = new AtomicBoolean(false);
     private volatile ReferenceMatcher referenceMatcher;
 
-    private MuzzleMatcher(InstrumentationModule instrumentationModule) {
+    private MuzzleMatcher(
+        InstrumentationModule instrumentationModule,
+        @Nullable MuzzleDecisionCache muzzleDecisionCache) {
       this.instrumentationModule = instrumentationModule;
+      this.muzzleDecisionCache = muzzleDecisionCache;
     }
 
     @Override
@@ -204,7 +253,7 @@ public final class InstrumentationModuleInstaller {
     // during the agent setup
     private ReferenceMatcher getReferenceMatcher() {
       if (initialized.compareAndSet(false, true)) {
-        referenceMatcher = ReferenceMatcher.of(instrumentationModule);
+        referenceMatcher = ReferenceMatcher.of(instrumentationModule, muzzleDecisionCache);
       }
       return referenceMatcher;
     }
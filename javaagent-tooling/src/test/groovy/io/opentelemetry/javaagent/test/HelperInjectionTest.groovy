@@ -38,7 +38,7 @@ class HelperInjectionTest extends Specification {
     thrown ClassNotFoundException
 
     when:
-    injector.transform(null, null, emptyLoader.get(), null)
+    injector.transform(null, null, emptyLoader.get(), null, null)
     emptyLoader.get().loadClass(helperClassName)
     then:
     isClassLoaded(helperClassName, emptyLoader.get())
@@ -71,7 +71,7 @@ class HelperInjectionTest extends Specification {
 
     when:
     def bootstrapClassloader = null
-    injector.transform(null, null, bootstrapClassloader, null)
+    injector.transform(null, null, bootstrapClassloader, null, null)
     Class<?> helperClass = bootstrapChild.loadClass(helperClassName)
     then:
     helperClass.getClassLoader() == bootstrapClassloader
@@ -12,6 +12,7 @@ import net.bytebuddy.pool.TypePool
 import spock.lang.Specification
 
 import java.lang.ref.WeakReference
+import java.time.Duration
 
 class CacheProviderTest extends Specification {
   def "key bootstrap equivalence"() {
@@ -159,6 +160,43 @@ class CacheProviderTest extends Specification {
     !cacheProvider1.find("foo").is(cacheProvider2.find("foo"))
   }
 
+  def "test pinned types are not evicted"() {
+    setup:
+    def poolStrat = new AgentCachingPoolStrategy(1, 1, Duration.ZERO, ["foo"] as Set)
+
+    def loader = newClassLoader()
+    def loaderHash = loader.hashCode()
+    def loaderRef = new WeakReference<ClassLoader>(loader)
+
+    def cacheProvider = poolStrat.createCacheProvider(loaderHash, loaderRef)
+
+    when:
+    cacheProvider.register("foo", newVoid())
+    (1..10).each { cacheProvider.register("bar" + it, newVoid()) }
+
+    then:
+    cacheProvider.find("foo") != null
+  }
+
+  def "test startup cache is replaced after startup"() {
+    setup:
+    def poolStrat = new AgentCachingPoolStrategy(100, 1, Duration.ofMillis(1), [] as Set)
+
+    def loader = newClassLoader()
+    def loaderHash = loader.hashCode()
+    def loaderRef = new WeakReference<ClassLoader>(loader)
+
+    def cacheProvider = poolStrat.createCacheProvider(loaderHash, loaderRef)
+
+    when:
+    cacheProvider.register("foo", newVoid())
+    Thread.sleep(10)
+
+    then:
+    cacheProvider.find("foo") == null
+    poolStrat.sharedResolutionCache.currentGeneration().capacity == 1
+  }
+
   static newVoid() {
     return new TypePool.Resolution.Simple(TypeDescription.VOID)
   }
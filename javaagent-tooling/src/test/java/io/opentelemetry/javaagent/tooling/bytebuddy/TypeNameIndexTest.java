@@ -0,0 +1,101 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.bytebuddy;
+
+import static io.opentelemetry.javaagent.extension.matcher.AgentElementMatchers.implementsInterface;
+import static net.bytebuddy.matcher.ElementMatchers.any;
+import static net.bytebuddy.matcher.ElementMatchers.isPublic;
+import static net.bytebuddy.matcher.ElementMatchers.nameStartsWith;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import net.bytebuddy.agent.builder.AgentBuilder;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+import org.junit.jupiter.api.Test;
+
+class TypeNameIndexTest {
+
+  @Test
+  void extractsNames() {
+    TypeNameIndex.NameRestriction named = TypeNameIndex.NameRestriction.extract(named("a.B"));
+    assertThat(named).isNotNull();
+    assertThat(named.exactNames).containsOnly("a.B");
+    assertThat(named.prefixes).isEmpty();
+
+    TypeNameIndex.NameRestriction oneOf =
+        TypeNameIndex.NameRestriction.extract(namedOneOf("a.B", "a.C"));
+    assertThat(oneOf).isNotNull();
+    assertThat(oneOf.exactNames).containsOnly("a.B", "a.C");
+
+    TypeNameIndex.NameRestriction prefix =
+        TypeNameIndex.NameRestriction.extract(nameStartsWith("a.b."));
+    assertThat(prefix).isNotNull();
+    assertThat(prefix.exactNames).isEmpty();
+    assertThat(prefix.prefixes).containsOnly("a.b.");
+  }
+
+  @Test
+  void extractsNamesFromJunctions() {
+    TypeNameIndex.NameRestriction conjunction =
+        TypeNameIndex.NameRestriction.extract(
+            isPublic().and(named("a.B")).and(implementsInterface(named("a.I"))));
+    assertThat(conjunction).isNotNull();
+    assertThat(conjunction.exactNames).containsOnly("a.B");
+
+    TypeNameIndex.NameRestriction disjunction =
+        TypeNameIndex.NameRestriction.extract(named("a.B").or(nameStartsWith("c.")));
+    assertThat(disjunction).isNotNull();
+    assertThat(disjunction.exactNames).containsOnly("a.B");
+    assertThat(disjunction.prefixes).containsOnly("c.");
+  }
+
+  @Test
+  void unrestrictedMatchers() {
+    assertThat(TypeNameIndex.NameRestriction.extract(implementsInterface(named("a.I")))).isNull();
+    assertThat(TypeNameIndex.NameRestriction.extract(named("a.B").or(isPublic()))).isNull();
+    assertThat(TypeNameIndex.NameRestriction.extract(any())).isNull();
+  }
+
+  @Test
+  void matchesOnlyCandidates() {
+    TypeNameIndex index = new TypeNameIndex();
+    AgentBuilder.RawMatcher exact = indexed(index, named(ArrayList.class.getName()));
+    AgentBuilder.RawMatcher shortPrefix = indexed(index, nameStartsWith("java."));
+    AgentBuilder.RawMatcher longPrefix = indexed(index, nameStartsWith("java.util.concurrent."));
+    AgentBuilder.RawMatcher hierarchy = indexed(index, implementsInterface(named("java.util.Map")));
+
+    TypeDescription arrayList = TypeDescription.ForLoadedType.of(ArrayList.class);
+    assertThat(matches(exact, arrayList)).isTrue();
+    assertThat(matches(shortPrefix, arrayList)).isTrue();
+    assertThat(matches(longPrefix, arrayList)).isFalse();
+    assertThat(matches(hierarchy, arrayList)).isFalse();
+
+    TypeDescription concurrentHashMap = TypeDescription.ForLoadedType.of(ConcurrentHashMap.class);
+    assertThat(matches(exact, concurrentHashMap)).isFalse();
+    assertThat(matches(shortPrefix, concurrentHashMap)).isTrue();
+    assertThat(matches(longPrefix, concurrentHashMap)).isTrue();
+    assertThat(matches(hierarchy, concurrentHashMap)).isTrue();
+
+    TypeDescription testClass = TypeDescription.ForLoadedType.of(TypeNameIndexTest.class);
+    assertThat(matches(exact, testClass)).isFalse();
+    assertThat(matches(shortPrefix, testClass)).isFalse();
+    assertThat(matches(longPrefix, testClass)).isFalse();
+    assertThat(matches(hierarchy, testClass)).isFalse();
+  }
+
+  private static AgentBuilder.RawMatcher indexed(
+      TypeNameIndex index, ElementMatcher<TypeDescription> typeMatcher) {
+    return index.indexedMatcher(typeMatcher, typeMatcher, any());
+  }
+
+  private static boolean matches(AgentBuilder.RawMatcher matcher, TypeDescription type) {
+    return matcher.matches(type, TypeNameIndexTest.class.getClassLoader(), null, null, null);
+  }
+}
@@ -14,6 +14,7 @@ import java.lang.instrument.Instrumentation;
 import java.lang.ref.WeakReference;
 import java.net.URL;
 import java.nio.file.Files;
+import java.security.ProtectionDomain;
 import java.security.SecureClassLoader;
 import java.util.Collection;
 import java.util.Collections;
@@ -145,7 +146,8 @@ public class HelperInjector implements Transformer {
       DynamicType.Builder<?> builder,
       TypeDescription typeDescription,
       ClassLoader classLoader,
-      JavaModule module) {
+      JavaModule module,
+      ProtectionDomain protectionDomain) {
     if (!helperClassNames.isEmpty()) {
       classLoader = injectHelperClasses(typeDescription, classLoader, module);
     }
@@ -5,8 +5,21 @@
 
 package io.opentelemetry.javaagent.tooling.muzzle;
 
+import static java.util.Collections.emptyList;
+
 import io.opentelemetry.instrumentation.api.caching.Cache;
+import io.opentelemetry.instrumentation.api.config.Config;
+import io.opentelemetry.instrumentation.api.internal.SupportabilityMetrics;
+import io.opentelemetry.instrumentation.api.internal.SupportabilityMetrics.CounterNames;
 import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import net.bytebuddy.agent.builder.AgentBuilder;
 import net.bytebuddy.description.annotation.AnnotationList;
 import net.bytebuddy.description.method.MethodDescription;
@@ -15,21 +28,25 @@ import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.description.type.TypeList;
 import net.bytebuddy.dynamic.ClassFileLocator;
 import net.bytebuddy.pool.TypePool;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  *
  *
  * <ul>
- *   There two core parts to the cache...
+ *   There three core parts to the cache...
  *   <li>a cache of ClassLoader to WeakReference&lt;ClassLoader&gt;
  *   <li>a single cache of TypeResolutions for all ClassLoaders - keyed by a custom composite key of
  *       ClassLoader and class name
+ *   <li>a pinned tier of TypeResolutions of commonly used super types that is never evicted
  * </ul>
  *
  * <p>This design was chosen to create a single limited size cache that can be adjusted for the
  * entire application -- without having to create a large number of WeakReference objects.
  *
- * <p>Eviction is handled through a size restriction
+ * <p>Eviction is handled through a size restriction. During the application startup, when most of
+ * the classes are loaded, a larger size is used; once the startup period is over the cache is
+ * replaced with a smaller one.
  */
 public class AgentCachingPoolStrategy implements AgentBuilder.PoolStrategy {
 
@@ -37,6 +54,52 @@ public class AgentCachingPoolStrategy implements AgentBuilder.PoolStrategy {
   // others to avoid creation of synthetic accessors
 
   static final int TYPE_CAPACITY = 64;
+  static final int STARTUP_TYPE_CAPACITY = 1024;
+  static final Duration STARTUP_DURATION = Duration.ofMinutes(1);
+
+  // super types that are looked up over and over again when matching type hierarchies
+  static final List<String> PINNED_TYPES =
+      Arrays.asList(
+          "java.lang.Runnable",
+          "java.util.concurrent.Callable",
+          "java.util.concurrent.Executor",
+          "java.util.concurrent.ExecutorService",
+          "java.io.Serializable",
+          "java.lang.AutoCloseable",
+          "java.io.Closeable",
+          "java.lang.Cloneable",
+          "java.lang.Comparable",
+          "java.lang.Iterable",
+          "java.util.Collection",
+          "java.util.List",
+          "java.util.Map",
+          "java.util.EventListener",
+          "javax.servlet.Servlet",
+          "javax.servlet.GenericServlet",
+          "javax.servlet.http.HttpServlet",
+          "javax.servlet.Filter",
+          "jakarta.servlet.Servlet",
+          "jakarta.servlet.GenericServlet",
+          "jakarta.servlet.http.HttpServlet",
+          "jakarta.servlet.Filter",
+          "org.springframework.beans.factory.Aware",
+          "org.springframework.beans.factory.InitializingBean",
+          "org.springframework.beans.factory.DisposableBean",
+          "org.springframework.context.ApplicationContextAware",
+          "org.springframework.web.servlet.HandlerAdapter",
+          "org.springframework.web.servlet.HandlerMapping",
+          "org.springframework.web.servlet.FrameworkServlet",
+          "org.springframework.web.filter.OncePerRequestFilter",
+          "org.springframework.web.filter.GenericFilterBean");
+
+  private static final String TYPE_CAPACITY_CONFIG =
+      "otel.javaagent.experimental.type-cache.capacity";
+  private static final String STARTUP_TYPE_CAPACITY_CONFIG =
+      "otel.javaagent.experimental.type-cache.startup-capacity";
+  private static final String STARTUP_DURATION_CONFIG =
+      "otel.javaagent.experimental.type-cache.startup-duration";
+  private static final String PINNED_TYPES_CONFIG =
+      "otel.javaagent.experimental.type-cache.pinned-types";
 
   static final int BOOTSTRAP_HASH = 7236344; // Just a random number
 
@@ -54,12 +117,33 @@ public class AgentCachingPoolStrategy implements AgentBuilder.PoolStrategy {
   /**
    * Single shared Type.Resolution cache -- uses a composite key -- conceptually of loader & name
    */
-  final Cache<TypeCacheKey, TypePool.Resolution> sharedResolutionCache =
-      Cache.newBuilder().setMaximumSize(TYPE_CAPACITY).build();
+  final ResolutionCache sharedResolutionCache;
 
   // fast path for bootstrap
-  final SharedResolutionCacheAdapter bootstrapCacheProvider =
-      new SharedResolutionCacheAdapter(BOOTSTRAP_HASH, null, sharedResolutionCache);
+  final SharedResolutionCacheAdapter bootstrapCacheProvider;
+
+  /** Returns a new {@link AgentCachingPoolStrategy} configured using the passed {@code config}. */
+  public static AgentCachingPoolStrategy create(Config config) {
+    Set<String> pinnedTypes = new HashSet<>(PINNED_TYPES);
+    pinnedTypes.addAll(config.getList(PINNED_TYPES_CONFIG, emptyList()));
+    return new AgentCachingPoolStrategy(
+        config.getInt(STARTUP_TYPE_CAPACITY_CONFIG, STARTUP_TYPE_CAPACITY),
+        config.getInt(TYPE_CAPACITY_CONFIG, TYPE_CAPACITY),
+        config.getDuration(STARTUP_DURATION_CONFIG, STARTUP_DURATION),
+        pinnedTypes);
+  }
+
+  public AgentCachingPoolStrategy() {
+    this(STARTUP_TYPE_CAPACITY, TYPE_CAPACITY, STARTUP_DURATION, new HashSet<>(PINNED_TYPES));
+  }
+
+  AgentCachingPoolStrategy(
+      int startupCapacity, int capacity, Duration startupDuration, Set<String> pinnedTypes) {
+    sharedResolutionCache =
+        new ResolutionCache(startupCapacity, capacity, startupDuration, pinnedTypes);
+    bootstrapCacheProvider =
+        new SharedResolutionCacheAdapter(BOOTSTRAP_HASH, null, sharedResolutionCache);
+  }
 
   @Override
   public final TypePool typePool(ClassFileLocator classFileLocator, ClassLoader classLoader) {
@@ -190,6 +274,101 @@ public class AgentCachingPoolStrategy implements AgentBuilder.PoolStrategy {
     }
   }
 
+  /**
+   * The shared resolution cache. Holds a bounded cache that is replaced with a smaller one once the
+   * startup period is over, and an unbounded pinned tier for the configured super types. The pinned
+   * tier is kept per class loader and goes away together with the class loader.
+   */
+  static final class ResolutionCache {
+    private static final SupportabilityMetrics supportability = SupportabilityMetrics.instance();
+
+    private final int capacity;
+    private final long startupEndNanos;
+    private final Set<String> pinnedTypes;
+
+    private final Cache<ClassLoader, Map<String, TypePool.Resolution>> pinned =
+        Cache.newBuilder().setWeakKeys().build();
+    private final Map<String, TypePool.Resolution> bootstrapPinned = new ConcurrentHashMap<>();
+
+    private volatile boolean startup;
+    private volatile Generation generation;
+
+    ResolutionCache(
+        int startupCapacity, int capacity, Duration startupDuration, Set<String> pinnedTypes) {
+      this.capacity = capacity;
+      this.startupEndNanos = System.nanoTime() + startupDuration.toNanos();
+      this.pinnedTypes = pinnedTypes;
+      this.startup = startupCapacity > capacity && !startupDuration.isZero();
+      this.generation = new Generation(startup ? startupCapacity : capacity);
+    }
+
+    @Nullable
+    TypePool.Resolution get(TypeCacheKey key) {
+      TypePool.Resolution resolution;
+      if (pinnedTypes.contains(key.className)) {
+        Map<String, TypePool.Resolution> pinnedResolutions = pinnedResolutions(key, false);
+        resolution = pinnedResolutions == null ? null : pinnedResolutions.get(key.className);
+      } else {
+        resolution = currentGeneration().cache.get(key);
+      }
+      supportability.incrementCounter(
+          resolution != null ? CounterNames.TYPE_CACHE_HIT : CounterNames.TYPE_CACHE_MISS);
+      return resolution;
+    }
+
+    void put(TypeCacheKey key, TypePool.Resolution resolution) {
+      if (pinnedTypes.contains(key.className)) {
+        Map<String, TypePool.Resolution> pinnedResolutions = pinnedResolutions(key, true);
+        if (pinnedResolutions != null) {
+          pinnedResolutions.put(key.className, resolution);
+        }
+        return;
+      }
+      Generation current = currentGeneration();
+      current.cache.put(key, resolution);
+      // the cache evicts one entry for every new entry once it is full; resolutions are only
+      // registered after a miss, so nearly every put adds a new entry
+      if (current.inserts.incrementAndGet() > current.capacity) {
+        supportability.incrementCounter(CounterNames.TYPE_CACHE_EVICTION);
+      }
+    }
+
+    @Nullable
+    private Map<String, TypePool.Resolution> pinnedResolutions(TypeCacheKey key, boolean create) {
+      if (key.loaderRef == null) {
+        return bootstrapPinned;
+      }
+      ClassLoader loader = key.loaderRef.get();
+      if (loader == null) {
+        return null;
+      }
+      return create
+          ? pinned.computeIfAbsent(loader, l -> new ConcurrentHashMap<>())
+          : pinned.get(loader);
+    }
+
+    private Generation currentGeneration() {
+      if (startup && System.nanoTime() - startupEndNanos >= 0) {
+        // startup is over, switch to the smaller cache; losing a couple of concurrent puts to the
+        // startup cache is fine, they will be resolved again
+        startup = false;
+        generation = new Generation(capacity);
+      }
+      return generation;
+    }
+
+    private static final class Generation {
+      private final int capacity;
+      private final Cache<TypeCacheKey, TypePool.Resolution> cache;
+      private final AtomicLong inserts = new AtomicLong();
+
+      private Generation(int capacity) {
+        this.capacity = capacity;
+        this.cache = Cache.newBuilder().setMaximumSize(capacity).build();
+      }
+    }
+  }
+
   static final class SharedResolutionCacheAdapter implements TypePool.CacheProvider {
     private static final String OBJECT_NAME = "java.lang.Object";
     private static final TypePool.Resolution OBJECT_RESOLUTION =
@@ -197,12 +376,12 @@ public class AgentCachingPoolStrategy implements AgentBuilder.PoolStrategy {
 
     private final int loaderHash;
     private final WeakReference<ClassLoader> loaderRef;
-    private final Cache<TypeCacheKey, TypePool.Resolution> sharedResolutionCache;
+    private final ResolutionCache sharedResolutionCache;
 
     SharedResolutionCacheAdapter(
         int loaderHash,
         WeakReference<ClassLoader> loaderRef,
-        Cache<TypeCacheKey, TypePool.Resolution> sharedResolutionCache) {
+        ResolutionCache sharedResolutionCache) {
       this.loaderHash = loaderHash;
       this.loaderRef = loaderRef;
       this.sharedResolutionCache = sharedResolutionCache;
@@ -210,17 +389,11 @@ public class AgentCachingPoolStrategy implements AgentBuilder.PoolStrategy {
 
     @Override
     public TypePool.Resolution find(String className) {
-      TypePool.Resolution existingResolution =
-          sharedResolutionCache.get(new TypeCacheKey(loaderHash, loaderRef, className));
-      if (existingResolution != null) {
-        return existingResolution;
-      }
-
       if (OBJECT_NAME.equals(className)) {
         return OBJECT_RESOLUTION;
       }
 
-      return null;
+      return sharedResolutionCache.get(new TypeCacheKey(loaderHash, loaderRef, className));
     }
 
     @Override
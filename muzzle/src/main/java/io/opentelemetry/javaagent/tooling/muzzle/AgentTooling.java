@@ -5,6 +5,8 @@
 
 package io.opentelemetry.javaagent.tooling.muzzle;
 
+import io.opentelemetry.instrumentation.api.config.Config;
+
 /**
  * This class contains class references for objects shared by the agent installer as well as muzzle
  * (both compile and runtime). Extracted out from AgentInstaller to begin separating some of the
@@ -12,7 +14,8 @@ package io.opentelemetry.javaagent.tooling.muzzle;
  */
 public final class AgentTooling {
 
-  private static final AgentCachingPoolStrategy POOL_STRATEGY = new AgentCachingPoolStrategy();
+  private static final AgentCachingPoolStrategy POOL_STRATEGY =
+      AgentCachingPoolStrategy.create(Config.get());
 
   public static AgentLocationStrategy locationStrategy() {
     return locationStrategy(null);
@@ -0,0 +1,258 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.muzzle;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.opentelemetry.instrumentation.api.caching.Cache;
+import io.opentelemetry.javaagent.bootstrap.AgentClassLoader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A persistent cache of muzzle decisions that survives JVM restarts.
+ *
+ * <p>Muzzle decisions are stored per instrumentation module class, agent version and class loader
+ * classpath. A class loader classpath is identified by a fingerprint of the paths, sizes and
+ * modification times of all jars visible to the class loader and its parents and the JVM version.
+ * Decisions for class loaders whose classpath cannot be determined, or that contains directories
+ * (whose size and modification time do not change when the classes inside them change), are never
+ * cached.
+ */
+public final class MuzzleDecisionCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(MuzzleDecisionCache.class);
+
+  private static final String AGENT_VERSION_KEY = "agent.version";
+  // fingerprint of class loaders whose decisions are not cached; Cache does not support nulls
+  private static final String NOT_CACHEABLE = "";
+
+  private final Path file;
+  private final String agentVersion;
+  private final Map<String, Boolean> decisions = new ConcurrentHashMap<>();
+  private final Cache<ClassLoader, String> fingerprints = Cache.newBuilder().setWeakKeys().build();
+  private volatile boolean modified = false;
+
+  /**
+   * Creates a new {@link MuzzleDecisionCache} backed by the passed {@code file}, loading all
+   * decisions that were stored there by the same {@code agentVersion}.
+   */
+  public static MuzzleDecisionCache load(Path file, String agentVersion) {
+    MuzzleDecisionCache cache = new MuzzleDecisionCache(file, agentVersion);
+    cache.read();
+    return cache;
+  }
+
+  private MuzzleDecisionCache(Path file, String agentVersion) {
+    this.file = file;
+    this.agentVersion = agentVersion;
+  }
+
+  /**
+   * Returns the previously stored decision for the passed instrumentation module class name and
+   * class loader, or {@code null} if there is none.
+   */
+  @Nullable
+  Boolean get(String moduleClassName, ClassLoader loader) {
+    String fingerprint = fingerprint(loader);
+    if (fingerprint.isEmpty()) {
+      return null;
+    }
+    return decisions.get(key(moduleClassName, fingerprint));
+  }
+
+  /** Stores the decision for the passed instrumentation module class name and class loader. */
+  void put(String moduleClassName, ClassLoader loader, boolean matches) {
+    String fingerprint = fingerprint(loader);
+    if (fingerprint.isEmpty()) {
+      return;
+    }
+    Boolean previous = decisions.put(key(moduleClassName, fingerprint), matches);
+    if (previous == null || previous != matches) {
+      modified = true;
+    }
+  }
+
+  /** Writes all decisions to the backing file if anything has changed since it was loaded. */
+  public void save() {
+    if (!modified) {
+      return;
+    }
+    modified = false;
+
+    Properties properties = new Properties();
+    properties.setProperty(AGENT_VERSION_KEY, agentVersion);
+    for (Map.Entry<String, Boolean> entry : decisions.entrySet()) {
+      properties.setProperty(entry.getKey(), entry.getValue().toString());
+    }
+    try {
+      Path parent = file.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      // write to a temporary file first, so that concurrently starting JVMs never see a partially
+      // written cache
+      Path tempFile = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+      try (OutputStream out = Files.newOutputStream(tempFile)) {
+        properties.store(out, "OpenTelemetry javaagent muzzle decision cache");
+      }
+      try {
+        Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+      } catch (IOException e) {
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch (IOException e) {
+      logger.warn("Failed to write muzzle decision cache to {}", file, e);
+    }
+  }
+
+  private void read() {
+    if (!Files.isRegularFile(file)) {
+      return;
+    }
+    Properties properties = new Properties();
+    try (InputStream in = Files.newInputStream(file)) {
+      properties.load(in);
+    } catch (IOException | IllegalArgumentException e) {
+      logger.warn("Failed to read muzzle decision cache from {}", file, e);
+      return;
+    }
+    if (!agentVersion.equals(properties.getProperty(AGENT_VERSION_KEY))) {
+      logger.debug("Ignoring muzzle decision cache {} written by a different agent version", file);
+      // make sure that the stale file gets overwritten
+      modified = true;
+      return;
+    }
+    for (String key : properties.stringPropertyNames()) {
+      if (!key.equals(AGENT_VERSION_KEY)) {
+        decisions.put(key, Boolean.parseBoolean(properties.getProperty(key)));
+      }
+    }
+    logger.debug("Loaded {} muzzle decisions from {}", decisions.size(), file);
+  }
+
+  // many instrumentation modules share the same instrumentation name, so the module class name is
+  // used instead
+  private String key(String moduleClassName, String fingerprint) {
+    return moduleClassName + '@' + agentVersion + '@' + fingerprint;
+  }
+
+  private String fingerprint(ClassLoader loader) {
+    return fingerprints.computeIfAbsent(loader, MuzzleDecisionCache::computeFingerprint);
+  }
+
+  private static String computeFingerprint(ClassLoader loader) {
+    StringBuilder classpath = new StringBuilder();
+    classpath
+        .append(System.getProperty("java.home"))
+        .append('|')
+        .append(System.getProperty("java.version"))
+        .append('|');
+    if (!appendPath(classpath, System.getProperty("sun.boot.class.path"))) {
+      return NOT_CACHEABLE;
+    }
+
+    ClassLoader systemClassLoader = ClassLoader.getSystemClassLoader();
+    for (ClassLoader current = loader; current != null; current = current.getParent()) {
+      if (current instanceof AgentClassLoader.BootstrapClassLoaderProxy) {
+        // stands for the bootstrap class loader, which is covered by the JVM and agent version
+        break;
+      }
+      if (current instanceof URLClassLoader) {
+        for (URL url : ((URLClassLoader) current).getURLs()) {
+          if (!appendUrl(classpath, url)) {
+            return NOT_CACHEABLE;
+          }
+        }
+      } else if (current == systemClassLoader) {
+        if (!appendPath(classpath, System.getProperty("java.class.path"))) {
+          return NOT_CACHEABLE;
+        }
+      } else if (current != systemClassLoader.getParent()) {
+        // the contents of the platform class loader are covered by the JVM version, for any other
+        // class loader there's no way to tell which classes it can load
+        return NOT_CACHEABLE;
+      }
+      classpath.append('|');
+    }
+
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      byte[] hash = digest.digest(classpath.toString().getBytes(UTF_8));
+      StringBuilder hex = new StringBuilder(hash.length * 2);
+      for (byte b : hash) {
+        hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+      }
+      return hex.toString();
+    } catch (NoSuchAlgorithmException e) {
+      return NOT_CACHEABLE;
+    }
+  }
+
+  // the append methods return false if the classpath contains an entry that can't be fingerprinted
+  private static boolean appendPath(StringBuilder classpath, @Nullable String path) {
+    if (path == null) {
+      return true;
+    }
+    for (String entry : path.split(File.pathSeparator)) {
+      if (!appendFile(classpath, new File(entry))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean appendUrl(StringBuilder classpath, URL url) {
+    String spec = url.toString();
+    classpath.append(spec).append(';');
+    // nested jars (e.g. spring boot fat jars) change whenever the outer jar changes
+    if (spec.startsWith("jar:")) {
+      int separator = spec.indexOf("!/");
+      spec = spec.substring("jar:".length(), separator == -1 ? spec.length() : separator);
+    }
+    if (spec.startsWith("file:")) {
+      try {
+        return appendFile(classpath, new File(new URI(spec)));
+      } catch (URISyntaxException | IllegalArgumentException e) {
+        // fall back to just the url
+      }
+    }
+    return true;
+  }
+
+  private static boolean appendFile(StringBuilder classpath, File file) {
+    // the size and modification time of a directory do not change when the class files inside it
+    // are modified, e.g. in exploded or IDE classpaths
+    if (file.isDirectory()) {
+      return false;
+    }
+    classpath
+        .append(file.getPath())
+        .append(':')
+        .append(file.length())
+        .append(':')
+        .append(file.lastModified())
+        .append(';');
+    return true;
+  }
+}
@@ -27,6 +27,7 @@ import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.jar.asm.Type;
 import net.bytebuddy.pool.TypePool;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /** Matches a set of references against a classloader. */
 public final class ReferenceMatcher {
@@ -36,22 +37,48 @@ public final class ReferenceMatcher {
   private final Map<String, ClassRef> references;
   private final Set<String> helperClassNames;
   private final InstrumentationClassPredicate instrumentationClassPredicate;
+  @Nullable private final String moduleClassName;
+  @Nullable private final MuzzleDecisionCache decisionCache;
 
   public static ReferenceMatcher of(InstrumentationModule instrumentationModule) {
+    return of(instrumentationModule, null);
+  }
+
+  /**
+   * Returns a new {@link ReferenceMatcher} for the passed {@code instrumentationModule} that reuses
+   * the decisions stored in the {@code decisionCache}, if present, instead of checking the
+   * references again.
+   */
+  public static ReferenceMatcher of(
+      InstrumentationModule instrumentationModule,
+      @Nullable MuzzleDecisionCache decisionCache) {
     return new ReferenceMatcher(
         instrumentationModule.getMuzzleHelperClassNames(),
         MuzzleReferencesAccessor.getFor(instrumentationModule),
-        instrumentationModule::isHelperClass);
+        instrumentationModule::isHelperClass,
+        instrumentationModule.getClass().getName(),
+        decisionCache);
   }
 
   ReferenceMatcher(
       List<String> helperClassNames,
       Map<String, ClassRef> references,
       Predicate<String> libraryInstrumentationPredicate) {
+    this(helperClassNames, references, libraryInstrumentationPredicate, null, null);
+  }
+
+  ReferenceMatcher(
+      List<String> helperClassNames,
+      Map<String, ClassRef> references,
+      Predicate<String> libraryInstrumentationPredicate,
+      @Nullable String moduleClassName,
+      @Nullable MuzzleDecisionCache decisionCache) {
     this.references = references;
     this.helperClassNames = new HashSet<>(helperClassNames);
     this.instrumentationClassPredicate =
         new InstrumentationClassPredicate(libraryInstrumentationPredicate);
+    this.moduleClassName = moduleClassName;
+    this.decisionCache = decisionCache;
   }
 
   /**
@@ -67,6 +94,19 @@ public final class ReferenceMatcher {
 
   // loader cannot be null, must pass "bootstrap proxy" instead of bootstrap class loader
   private boolean doesMatch(ClassLoader loader) {
+    if (decisionCache == null || moduleClassName == null) {
+      return checkReferences(loader);
+    }
+    Boolean cachedDecision = decisionCache.get(moduleClassName, loader);
+    if (cachedDecision != null) {
+      return cachedDecision;
+    }
+    boolean matches = checkReferences(loader);
+    decisionCache.put(moduleClassName, loader, matches);
+    return matches;
+  }
+
+  private boolean checkReferences(ClassLoader loader) {
     TypePool typePool = createTypePool(loader);
     for (ClassRef reference : references.values()) {
       if (!checkMatch(reference, typePool, loader).isEmpty()) {
@@ -0,0 +1,98 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.muzzle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MuzzleDecisionCacheTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  void decisionsSurviveReload() throws IOException {
+    Path cacheFile = tempDir.resolve("muzzle.cache");
+    URLClassLoader loader = newLoader(createJar("library.jar"));
+
+    MuzzleDecisionCache cache = MuzzleDecisionCache.load(cacheFile, "1.0");
+    assertThat(cache.get("first", loader)).isNull();
+    cache.put("first", loader, true);
+    cache.put("second", loader, false);
+    cache.save();
+
+    MuzzleDecisionCache reloaded = MuzzleDecisionCache.load(cacheFile, "1.0");
+    assertThat(reloaded.get("first", loader)).isTrue();
+    assertThat(reloaded.get("second", loader)).isFalse();
+    assertThat(reloaded.get("third", loader)).isNull();
+  }
+
+  @Test
+  void differentAgentVersion() throws IOException {
+    Path cacheFile = tempDir.resolve("muzzle.cache");
+    URLClassLoader loader = newLoader(createJar("library.jar"));
+
+    MuzzleDecisionCache cache = MuzzleDecisionCache.load(cacheFile, "1.0");
+    cache.put("first", loader, true);
+    cache.save();
+
+    assertThat(MuzzleDecisionCache.load(cacheFile, "2.0").get("first", loader)).isNull();
+  }
+
+  @Test
+  void changedJar() throws IOException {
+    Path cacheFile = tempDir.resolve("muzzle.cache");
+    Path jar = createJar("library.jar");
+
+    MuzzleDecisionCache cache = MuzzleDecisionCache.load(cacheFile, "1.0");
+    cache.put("first", newLoader(jar), true);
+    cache.save();
+
+    Files.write(jar, new byte[] {1, 2, 3});
+    Files.setLastModifiedTime(jar, FileTime.fromMillis(0));
+
+    assertThat(MuzzleDecisionCache.load(cacheFile, "1.0").get("first", newLoader(jar))).isNull();
+  }
+
+  @Test
+  void unknownClassLoaderIsNotCached() {
+    Path cacheFile = tempDir.resolve("muzzle.cache");
+    ClassLoader loader = new ClassLoader(null) {};
+
+    MuzzleDecisionCache cache = MuzzleDecisionCache.load(cacheFile, "1.0");
+    cache.put("first", loader, true);
+    assertThat(cache.get("first", loader)).isNull();
+    cache.save();
+
+    assertThat(Files.exists(cacheFile)).isFalse();
+  }
+
+  @Test
+  void directoryIsNotCached() throws IOException {
+    Path cacheFile = tempDir.resolve("muzzle.cache");
+    Path classes = Files.createDirectory(tempDir.resolve("classes"));
+    URLClassLoader loader = newLoader(classes);
+
+    MuzzleDecisionCache cache = MuzzleDecisionCache.load(cacheFile, "1.0");
+    cache.put("first", loader, true);
+    assertThat(cache.get("first", loader)).isNull();
+  }
+
+  private Path createJar(String name) throws IOException {
+    return Files.write(tempDir.resolve(name), new byte[] {0});
+  }
+
+  private static URLClassLoader newLoader(Path path) throws IOException {
+    return new URLClassLoader(new URL[] {path.toUri().toURL()}, null);
+  }
+}
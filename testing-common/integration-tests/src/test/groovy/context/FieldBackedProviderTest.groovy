@@ -8,6 +8,7 @@ package context
 import io.opentelemetry.instrumentation.test.AgentInstrumentationSpecification
 import io.opentelemetry.instrumentation.test.utils.ClasspathUtils
 import io.opentelemetry.instrumentation.test.utils.GcUtils
+import io.opentelemetry.javaagent.instrumentation.api.internal.VirtualFieldMapFallbacks
 import io.opentelemetry.javaagent.testing.common.TestAgentListenerAccess
 import library.KeyClass
 import library.UntransformableKeyClass
@@ -128,6 +129,31 @@ class FieldBackedProviderTest extends AgentInstrumentationSpecification {
     new UntransformableKeyClass() | _
   }
 
+  def "keys whose values are stored in the map instead of an injected field are counted"() {
+    given:
+    long before = mapFallbacks()
+    def untransformableKey = new UntransformableKeyClass()
+
+    when:
+    new KeyClass().putContextCount(10)
+    untransformableKey.putContextCount(10)
+    // replacing the value of a key that is already in the map is not counted again
+    untransformableKey.putContextCount(20)
+
+    then:
+    mapFallbacks() == before + 1
+  }
+
+  static long mapFallbacks() {
+    long total = 0
+    VirtualFieldMapFallbacks.forEach { className, count ->
+      if (className.endsWith('$library$KeyClass$context$Context')) {
+        total += count
+      }
+    }
+    return total
+  }
+
   def "works with cglib enhanced instances which duplicates context getter and setter methods"() {
     setup:
     Enhancer enhancer = new Enhancer()